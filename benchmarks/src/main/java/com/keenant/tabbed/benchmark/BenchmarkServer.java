@@ -0,0 +1,194 @@
+package com.keenant.tabbed.benchmark;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.ProtocolManager;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.utility.MinecraftReflection;
+import com.keenant.tabbed.Tabbed;
+import com.keenant.tabbed.benchmark.craftbukkit.CraftStubs;
+import com.keenant.tabbed.benchmark.craftbukkit.entity.CraftPlayer;
+import com.keenant.tabbed.benchmark.craftbukkit.entity.EntityPlayer;
+import com.keenant.tabbed.util.Pings;
+import com.keenant.tabbed.util.Skin;
+import com.keenant.tabbed.util.Skins;
+import com.mojang.authlib.GameProfile;
+import com.mojang.authlib.properties.Property;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * A stubbed Bukkit server with a stubbed ProtocolLib, just enough to drive tab lists
+ * outside of a real server. Packets are built for real (using the NMS classes
+ * from the spigot jar) but never leave the process.
+ */
+public class BenchmarkServer {
+    private static final String NMS_PACKAGE = "net.minecraft.server.v1_12_R1";
+
+    private static final List<Player> onlinePlayers = new ArrayList<>();
+    private static final List<Runnable> repeatingTasks = new ArrayList<>();
+    private static final AtomicLong packetsSent = new AtomicLong();
+    private static Server server;
+    private static int plugins;
+
+    /**
+     * Installs the stubbed server, safe to call more than once.
+     */
+    public static synchronized void init() {
+        if (server != null)
+            return;
+
+        Map<String,Object> pluginManager = new HashMap<>();
+
+        Map<String,Object> scheduler = new HashMap<>();
+        scheduler.put("scheduleSyncRepeatingTask", new Stubs.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                repeatingTasks.add((Runnable) args[1]);
+                return repeatingTasks.size();
+            }
+        });
+
+        Map<String,Object> answers = new HashMap<>();
+        answers.put("getName", "TabbedBenchmark");
+        answers.put("getVersion", "git-Spigot-benchmark (MC: 1.12.2)");
+        answers.put("getBukkitVersion", "1.12.2-R0.1-SNAPSHOT");
+        answers.put("getLogger", Logger.getLogger("TabbedBenchmark"));
+        answers.put("getOnlineMode", true);
+        answers.put("isPrimaryThread", true);
+        answers.put("getOnlinePlayers", Collections.unmodifiableList(onlinePlayers));
+        answers.put("getPluginManager", Stubs.create(PluginManager.class, pluginManager));
+        answers.put("getScheduler", Stubs.create(BukkitScheduler.class, scheduler));
+        server = CraftStubs.newServer(Stubs.handler("BenchmarkServer", answers));
+
+        MinecraftReflection.setMinecraftPackage(NMS_PACKAGE, CraftStubs.class.getPackage().getName());
+        Bukkit.setServer(server);
+
+        Map<String,Object> protocol = new HashMap<>();
+        protocol.put("createPacket", new Stubs.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                return new PacketContainer((PacketType) args[0]);
+            }
+        });
+        protocol.put("sendServerPacket", new Stubs.Answer() {
+            @Override
+            public Object answer(Object[] args) {
+                packetsSent.incrementAndGet();
+                return null;
+            }
+        });
+
+        try {
+            Field field = ProtocolLibrary.class.getDeclaredField("manager");
+            field.setAccessible(true);
+            field.set(null, Stubs.create(ProtocolManager.class, protocol));
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("couldn't stub ProtocolLib", e);
+        }
+    }
+
+    /**
+     * Creates a new Tabbed instance bound to a fresh stub plugin.
+     * @return
+     */
+    public static Tabbed newTabbed() {
+        init();
+        Map<String,Object> answers = new HashMap<>();
+        answers.put("getName", "Benchmark" + plugins++);
+        answers.put("getServer", server);
+        answers.put("isEnabled", true);
+        return new Tabbed(Stubs.create(Plugin.class, answers));
+    }
+
+    /**
+     * Creates a player, it is not online until {@link #join(StubPlayer)}.
+     * @param name
+     * @return
+     */
+    public static StubPlayer newPlayer(String name) {
+        init();
+        return new StubPlayer(name);
+    }
+
+    public static void join(StubPlayer player) {
+        onlinePlayers.add(player.getPlayer());
+    }
+
+    public static void quit(StubPlayer player) {
+        onlinePlayers.remove(player.getPlayer());
+    }
+
+    public static void quitAll() {
+        onlinePlayers.clear();
+        repeatingTasks.clear();
+    }
+
+    /**
+     * Runs every repeating task once, like a server tick would when they are due.
+     */
+    public static void runRepeatingTasks() {
+        for (Runnable task : repeatingTasks)
+            task.run();
+    }
+
+    /**
+     * @return Total number of packets "sent" to any player.
+     */
+    public static long getPacketsSent() {
+        return packetsSent.get();
+    }
+
+    /**
+     * A stubbed player, its list name and ping can be changed.
+     */
+    public static class StubPlayer {
+        @Getter private final Player player;
+        @Getter private final EntityPlayer handle;
+        @Getter @Setter private String listName;
+
+        private StubPlayer(String name) {
+            UUID uuid = UUID.nameUUIDFromBytes(("OfflinePlayer:" + name).getBytes());
+            Skin skin = Skins.DEFAULT_SKIN;
+            GameProfile profile = new GameProfile(uuid, name);
+            profile.getProperties().put(Skin.TEXTURE_KEY, new Property(Skin.TEXTURE_KEY, skin.getProperty().getValue(), skin.getProperty().getSignature()));
+
+            this.handle = new EntityPlayer();
+            this.listName = name;
+
+            Map<String,Object> answers = new HashMap<>();
+            answers.put("getName", name);
+            answers.put("getDisplayName", name);
+            answers.put("getPlayerListName", new Stubs.Answer() {
+                @Override
+                public Object answer(Object[] args) {
+                    return listName;
+                }
+            });
+            answers.put("getUniqueId", uuid);
+            answers.put("isOnline", true);
+            answers.put("isValid", true);
+            answers.put("getServer", server);
+            answers.put("getHandle", this.handle);
+            answers.put("getProfile", profile);
+            this.player = Stubs.create(CraftPlayer.class, answers);
+        }
+
+        public void setPing(int ping) {
+            this.handle.ping = ping;
+            // drop the ping sampled this tick, so the change is seen right away
+            Pings.forget(this.player);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.keenant.tabbed.benchmark;
+
+import com.keenant.tabbed.Tabbed;
+import com.keenant.tabbed.benchmark.BenchmarkServer.StubPlayer;
+import com.keenant.tabbed.tablist.DefaultTabList;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vanilla style DefaultTabLists, one per online player: the name polling task,
+ * a rename, a ping change seen by update() and a join directly followed by a quit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefaultTabListBenchmark {
+    @Param({"20", "50", "79"})
+    private int players;
+
+    private Tabbed tabbed;
+    private DefaultTabList tabList;
+    private List<StubPlayer> online;
+    private StubPlayer joining;
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.tabbed = BenchmarkServer.newTabbed();
+        this.online = new ArrayList<>();
+        for (int i = 0; i < this.players; i++) {
+            StubPlayer player = BenchmarkServer.newPlayer("player" + i);
+            BenchmarkServer.join(player);
+            this.online.add(player);
+        }
+        this.joining = BenchmarkServer.newPlayer("joining");
+        for (StubPlayer player : this.online)
+            this.tabbed.newDefaultTabList(player.getPlayer());
+        this.tabList = (DefaultTabList) this.tabbed.getTabList(this.online.get(0).getPlayer());
+        this.tabbed.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkServer.quitAll();
+    }
+
+    @Benchmark
+    public void pollUnchanged() {
+        BenchmarkServer.runRepeatingTasks();
+    }
+
+    @Benchmark
+    public void rename() {
+        StubPlayer player = this.online.get(this.tick % this.online.size());
+        player.setListName((this.tick & 1) == 0 ? "[A] " + player.getPlayer().getName() : player.getPlayer().getName());
+        this.tick++;
+        BenchmarkServer.runRepeatingTasks();
+    }
+
+    @Benchmark
+    public void pingChange() {
+        StubPlayer player = this.online.get(this.tick % this.online.size());
+        player.setPing((this.tick & 1) == 0 ? 40 : 80);
+        this.tick++;
+        this.tabList.update();
+        this.tabbed.flush();
+    }
+
+    @Benchmark
+    public void joinQuit() {
+        Player player = this.joining.getPlayer();
+        this.tabbed.getRoster().onPlayerJoin(new PlayerJoinEvent(player, null));
+        this.tabbed.getRoster().onPlayerQuit(new PlayerQuitEvent(player, null));
+        this.tabbed.flush();
+    }
+}
@@ -0,0 +1,76 @@
+package com.keenant.tabbed.benchmark;
+
+import com.keenant.tabbed.Tabbed;
+import com.keenant.tabbed.item.TextTabItem;
+import com.keenant.tabbed.tablist.TableTabList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A global update: every item of many 4x20 TableTabLists changes, then they are flushed,
+ * sequentially (parallelism 1) or spread over a number of threads. The first slot of every
+ * tab list holds the same item, like a server wide counter would. Only the flush is timed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelFlushBenchmark {
+    @Param({"100", "1000"})
+    private int players;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private Tabbed tabbed;
+    private List<TextTabItem> items;
+    private List<String>[] texts; // two generations of texts, one per item
+    private TextTabItem shared; // in every tab list
+    private int tick;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        this.tabbed = BenchmarkServer.newTabbed();
+        this.tabbed.setFlushParallelism(this.parallelism);
+        this.items = new ArrayList<>();
+        this.texts = new List[] {new ArrayList<String>(), new ArrayList<String>()};
+        this.shared = new TextTabItem("Online: 0", 0);
+        for (int i = 0; i < this.players; i++) {
+            TableTabList tabList = this.tabbed.newTableTabList(BenchmarkServer.newPlayer("player" + i).getPlayer());
+            tabList.set(0, this.shared);
+            for (int index = 1; index < tabList.getMaxItems(); index++) {
+                TextTabItem item = new TextTabItem("Player " + i + " slot " + index, 0);
+                tabList.set(index, item);
+                this.items.add(item);
+                this.texts[0].add("Player " + i + " slot " + index + " #0");
+                this.texts[1].add("Player " + i + " slot " + index + " #1");
+            }
+        }
+        this.tabbed.flush();
+    }
+
+    @Setup(Level.Invocation)
+    public void change() {
+        List<String> texts = this.texts[this.tick & 1];
+        for (int i = 0; i < this.items.size(); i++)
+            this.items.get(i).setText(texts.get(i));
+        this.shared.setText("Online: " + this.tick++);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.tabbed.setFlushParallelism(1);
+        BenchmarkServer.quitAll();
+    }
+
+    @Benchmark
+    public void flush() {
+        this.tabbed.flush();
+    }
+}
@@ -0,0 +1,96 @@
+package com.keenant.tabbed.benchmark;
+
+import com.keenant.tabbed.Tabbed;
+import com.keenant.tabbed.item.TabItem;
+import com.keenant.tabbed.item.TextTabItem;
+import com.keenant.tabbed.tablist.SimpleTabList;
+import com.keenant.tabbed.util.Skin;
+import com.keenant.tabbed.util.Skins;
+import org.bukkit.ChatColor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single full 80 slot SimpleTabList: full redraws, single slot changes,
+ * ping only changes, skin swaps and a no-op update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleTabListBenchmark {
+    private SimpleTabList tabList;
+    private TextTabItem[] items;
+    private Map<Integer,TabItem>[] redraws;
+    private Skin[] skins;
+    private Tabbed tabbed;
+    private int tick;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        this.tabbed = BenchmarkServer.newTabbed();
+        this.tabList = this.tabbed.newSimpleTabList(BenchmarkServer.newPlayer("viewer").getPlayer());
+
+        this.items = new TextTabItem[SimpleTabList.MAXIMUM_ITEMS];
+        for (int i = 0; i < this.items.length; i++) {
+            this.items[i] = new TextTabItem("Slot " + i, 0);
+            this.tabList.set(i, this.items[i]);
+        }
+        this.tabbed.flush();
+
+        // two alternating generations so every redraw changes every slot
+        this.redraws = new Map[2];
+        for (int generation = 0; generation < this.redraws.length; generation++) {
+            this.redraws[generation] = new HashMap<>();
+            for (int i = 0; i < SimpleTabList.MAXIMUM_ITEMS; i++)
+                this.redraws[generation].put(i, new TextTabItem(ChatColor.GRAY + "Row " + i + " #" + generation, 0));
+        }
+
+        this.skins = new Skin[] {Skins.DEFAULT_SKIN, Skins.getDot(ChatColor.RED)};
+    }
+
+    @Benchmark
+    public void fullRedraw() {
+        this.tabList.set(this.redraws[this.tick++ & 1]);
+        this.tabbed.flush();
+    }
+
+    @Benchmark
+    public void singleSlotChange() {
+        int index = nextIndex();
+        this.items[index].setText((this.tick & 1) == 0 ? "Online: 12" : "Online: 13");
+        this.tabbed.flush();
+    }
+
+    @Benchmark
+    public void pingOnlyChange() {
+        int index = nextIndex();
+        this.items[index].setPing((this.tick & 1) == 0 ? 40 : 80);
+        this.tabbed.flush();
+    }
+
+    @Benchmark
+    public void skinSwap() {
+        int index = nextIndex();
+        this.items[index].setSkin(this.skins[this.tick & 1]);
+        this.tabbed.flush();
+    }
+
+    @Benchmark
+    public void updateUnchanged() {
+        this.tabList.update();
+        this.tabbed.flush();
+    }
+
+    private int nextIndex() {
+        int index = this.tick % this.items.length;
+        this.tick++;
+        return index;
+    }
+}
@@ -0,0 +1,85 @@
+package com.keenant.tabbed.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Tiny proxy based stubs. Each stub answers by method name, anything
+ * unanswered returns the default value of its return type.
+ */
+public class Stubs {
+    /**
+     * Creates a stub of an interface.
+     * @param type
+     * @param answers Method name to either a fixed value or an {@link Answer}.
+     * @param <T>
+     * @return
+     */
+    public static <T> T create(Class<T> type, Map<String,Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class[] {type}, handler(type.getSimpleName(), answers)));
+    }
+
+    /**
+     * Creates the invocation handler used by stubs.
+     * @param name Used for toString().
+     * @param answers
+     * @return
+     */
+    public static InvocationHandler handler(final String name, final Map<String,Object> answers) {
+        return new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                switch (method.getName()) {
+                    case "equals":
+                        if (method.getParameterTypes().length == 1)
+                            return proxy == args[0];
+                        break;
+                    case "hashCode":
+                        if (method.getParameterTypes().length == 0)
+                            return System.identityHashCode(proxy);
+                        break;
+                    case "toString":
+                        if (method.getParameterTypes().length == 0)
+                            return name;
+                        break;
+                }
+
+                Object answer = answers.get(method.getName());
+                if (answer instanceof Answer)
+                    return ((Answer) answer).answer(args);
+                if (answer != null)
+                    return answer;
+                return getDefault(method.getReturnType());
+            }
+        };
+    }
+
+    private static Object getDefault(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class)
+            return null;
+        if (type == boolean.class)
+            return false;
+        if (type == char.class)
+            return '\0';
+        if (type == long.class)
+            return 0L;
+        if (type == float.class)
+            return 0F;
+        if (type == double.class)
+            return 0D;
+        if (type == int.class)
+            return 0;
+        if (type == short.class)
+            return (short) 0;
+        return (byte) 0;
+    }
+
+    /**
+     * A dynamic answer to a stubbed method.
+     */
+    public interface Answer {
+        Object answer(Object[] args);
+    }
+}
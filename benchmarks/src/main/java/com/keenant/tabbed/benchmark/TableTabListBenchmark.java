@@ -0,0 +1,64 @@
+package com.keenant.tabbed.benchmark;
+
+import com.keenant.tabbed.Tabbed;
+import com.keenant.tabbed.item.TabItem;
+import com.keenant.tabbed.item.TextTabItem;
+import com.keenant.tabbed.tablist.TableTabList;
+import com.keenant.tabbed.tablist.TableTabList.FillDirection;
+import com.keenant.tabbed.tablist.TableTabList.TableCorner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filling a 4x20 TableTabList, the whole table and a single column.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableTabListBenchmark {
+    private TableTabList tabList;
+    private List<TabItem>[] tables;
+    private List<TabItem>[] columns;
+    private Tabbed tabbed;
+    private int tick;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        this.tabbed = BenchmarkServer.newTabbed();
+        this.tabList = this.tabbed.newTableTabList(BenchmarkServer.newPlayer("viewer").getPlayer());
+
+        this.tables = new List[2];
+        this.columns = new List[2];
+        for (int generation = 0; generation < 2; generation++) {
+            this.tables[generation] = new ArrayList<>();
+            for (int i = 0; i < this.tabList.getColumns() * this.tabList.getRows(); i++)
+                this.tables[generation].add(new TextTabItem("Cell " + i + " #" + generation, 0));
+
+            this.columns[generation] = new ArrayList<>();
+            for (int i = 0; i < this.tabList.getRows(); i++)
+                this.columns[generation].add(new TextTabItem("Row " + i + " #" + generation, 0));
+        }
+        this.tabbed.flush();
+    }
+
+    @Benchmark
+    public boolean fillTable() {
+        boolean fit = this.tabList.fill(0, 0, this.tabList.getColumns() - 1, this.tabList.getRows() - 1, this.tables[this.tick++ & 1], TableCorner.TOP_LEFT, FillDirection.HORIZONTAL);
+        this.tabbed.flush();
+        return fit;
+    }
+
+    @Benchmark
+    public boolean fillColumn() {
+        boolean fit = this.tabList.fill(1, 0, 1, this.tabList.getRows() - 1, this.columns[this.tick++ & 1], TableCorner.TOP_LEFT, FillDirection.VERTICAL);
+        this.tabbed.flush();
+        return fit;
+    }
+}
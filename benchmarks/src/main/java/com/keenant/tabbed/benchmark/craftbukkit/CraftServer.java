@@ -0,0 +1,10 @@
+package com.keenant.tabbed.benchmark.craftbukkit;
+
+import org.bukkit.Server;
+
+/**
+ * Stand-in for CraftServer. Proxies of this (package-private) interface live in this package,
+ * so anything resolving CraftBukkit classes relative to the server finds our stubs.
+ */
+interface CraftServer extends Server {
+}
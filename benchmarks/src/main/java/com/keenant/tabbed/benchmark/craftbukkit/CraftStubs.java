@@ -0,0 +1,20 @@
+package com.keenant.tabbed.benchmark.craftbukkit;
+
+import org.bukkit.Server;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+/**
+ * Creates the stubbed CraftBukkit server.
+ */
+public class CraftStubs {
+    /**
+     * Creates a server proxy whose class is in this package.
+     * @param handler
+     * @return
+     */
+    public static Server newServer(InvocationHandler handler) {
+        return (Server) Proxy.newProxyInstance(CraftServer.class.getClassLoader(), new Class[] {CraftServer.class}, handler);
+    }
+}
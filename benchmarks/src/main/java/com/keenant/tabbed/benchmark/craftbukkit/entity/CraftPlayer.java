@@ -0,0 +1,13 @@
+package com.keenant.tabbed.benchmark.craftbukkit.entity;
+
+import com.mojang.authlib.GameProfile;
+import org.bukkit.entity.Player;
+
+/**
+ * Stand-in for CraftPlayer, exposes the methods Tabbed and ProtocolLib reflect on.
+ */
+public interface CraftPlayer extends Player {
+    EntityPlayer getHandle();
+
+    GameProfile getProfile();
+}
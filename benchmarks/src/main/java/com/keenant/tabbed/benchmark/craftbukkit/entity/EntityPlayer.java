@@ -0,0 +1,8 @@
+package com.keenant.tabbed.benchmark.craftbukkit.entity;
+
+/**
+ * Stand-in for the NMS player, only holds the ping field.
+ */
+public class EntityPlayer {
+    public int ping;
+}
@@ -1,7 +1,15 @@
 package com.keenant.tabbed;
 
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.wrappers.EnumWrappers.PlayerInfoAction;
 import com.google.common.base.Preconditions;
 import com.keenant.tabbed.tablist.*;
+import com.keenant.tabbed.util.PacketExecutor;
+import com.keenant.tabbed.util.Packets;
+import com.keenant.tabbed.util.Pings;
+import com.keenant.tabbed.util.TabEvents;
+import com.keenant.tabbed.util.TabEvents.Timing;
+import com.keenant.tabbed.util.TabMetrics;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.entity.Player;
@@ -9,24 +17,77 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.plugin.Plugin;
 
-import java.util.HashMap;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 public class Tabbed implements Listener {
-    private static Map<Plugin,Tabbed> instances = new HashMap<>();
+    private static final Map<Plugin,Tabbed> instances = new ConcurrentHashMap<>();
     @Getter @Setter static Level logLevel = Level.WARNING;
+    private static final int PACKET_THREADS = 2;
+    private static final int PREPARE_BATCH = 16; // tab lists prepared per task on a parallel flush
+    private static final PlayerInfoAction[] ACTIONS = PlayerInfoAction.values();
+    private static final int SWEEP_INTERVAL = 20 * 60; // ticks between checks for tab lists of offline players
 
     @Getter private final Plugin plugin;
-    private final Map<Player,TabList> tabLists;
+    private final Map<UUID,TabList> tabLists; // by player, safe to read from any thread
+    private final Map<UUID,TabList> tabListsView;
+    private final Set<SimpleTabList> dirtyTabLists;
+    private final Queue<SimpleTabList> mutatedTabLists; // tab lists with changes queued from other threads
+    @Getter private final PlayerRoster roster;
+    @Getter private final HeaderFooterAnimator headerFooterAnimator;
+    @Getter private final FrameClock frameClock;
+
+    @Getter private volatile int flushInterval = 1;
+    @Getter @Setter private boolean quantizedPing; // default for new tab lists, see SimpleTabList#setQuantizedPing
+    private int ticksSinceFlush;
+
+    private PacketExecutor packetExecutor;
+    @Getter private int flushParallelism = 1;
+    private ForkJoinPool flushPool;
 
     public Tabbed(Plugin plugin) {
         this.plugin = plugin;
-        this.tabLists = new HashMap<>();
+        this.tabLists = new ConcurrentHashMap<>();
+        this.tabListsView = Collections.unmodifiableMap(this.tabLists);
+        this.dirtyTabLists = new LinkedHashSet<>();
+        this.mutatedTabLists = new ConcurrentLinkedQueue<>();
+        this.roster = new PlayerRoster(this);
+        this.headerFooterAnimator = new HeaderFooterAnimator();
+        this.frameClock = new FrameClock();
         this.plugin.getServer().getPluginManager().registerEvents(this, this.plugin);
         instances.put(plugin, this);
+        this.plugin.getServer().getScheduler().scheduleSyncRepeatingTask(this.plugin, new Runnable() {
+            @Override
+            public void run() {
+                tick();
+            }
+        }, 1, 1);
+        this.plugin.getServer().getScheduler().scheduleSyncRepeatingTask(this.plugin, new Runnable() {
+            @Override
+            public void run() {
+                sweep();
+            }
+        }, SWEEP_INTERVAL, SWEEP_INTERVAL);
     }
 
     public static void log(Level level, String message) {
@@ -35,7 +96,7 @@ public class Tabbed implements Listener {
     }
 
     /**
-     * Gets an instance of Tabbed from a plugin.
+     * Gets an instance of Tabbed from a plugin. Safe to call from any thread.
      * @param plugin
      * @return
      */
@@ -43,18 +104,294 @@ public class Tabbed implements Listener {
         return instances.get(plugin);
     }
 
+    /**
+     * Sets how often (in ticks) changes to tab lists are sent. All the changes made to a tab list
+     * in between are merged and sent at once. Use 0 to send every change immediately.
+     * @param flushInterval
+     */
+    public void setFlushInterval(int flushInterval) {
+        Preconditions.checkArgument(flushInterval >= 0, "flushInterval cannot be negative");
+        if (this.flushInterval == flushInterval)
+            return;
+        this.flushInterval = flushInterval;
+        this.ticksSinceFlush = 0;
+        if (this.flushInterval == 0)
+            flush();
+    }
+
+    /**
+     * Checks if changes are sent on the flush task, or immediately.
+     * @return
+     */
+    public boolean isFlushScheduled() {
+        return this.flushInterval > 0;
+    }
+
+    /**
+     * Queues a tab list to be sent to its player on the next flush.
+     * @param tabList
+     */
+    public void markDirty(SimpleTabList tabList) {
+        this.dirtyTabLists.add(tabList);
+    }
+
+    /**
+     * Queues a tab list with changes from another thread, they are applied on the main thread
+     * before the next flush. Safe to call from any thread.
+     * @param tabList
+     */
+    public void queueMutations(SimpleTabList tabList) {
+        this.mutatedTabLists.add(tabList);
+        if (!isFlushScheduled()) {
+            this.plugin.getServer().getScheduler().runTask(this.plugin, new Runnable() {
+                @Override
+                public void run() {
+                    applyMutations();
+                }
+            });
+        }
+    }
+
+    private void applyMutations() {
+        for (SimpleTabList tabList = this.mutatedTabLists.poll(); tabList != null; tabList = this.mutatedTabLists.poll())
+            tabList.applyMutations();
+    }
+
+    /**
+     * Applies the changes queued from other threads, then sends the pending changes of
+     * every tab list right away.
+     */
+    public void flush() {
+        applyMutations();
+        if (this.dirtyTabLists.isEmpty())
+            return;
+        // copy, a flush could dirty another list
+        SimpleTabList[] tabLists = this.dirtyTabLists.toArray(new SimpleTabList[this.dirtyTabLists.size()]);
+        this.dirtyTabLists.clear();
+        int flushed = 0;
+        for (SimpleTabList tabList : tabLists) {
+            if (!tabList.isBatchEnabled())
+                flushed++;
+        }
+
+        if (this.flushPool == null || tabLists.length <= PREPARE_BATCH) {
+            for (SimpleTabList tabList : tabLists) {
+                if (!tabList.isBatchEnabled())
+                    tabList.flush();
+            }
+        } else {
+            // items are read on this thread, the changes and packets are computed in parallel,
+            // then sent in order from this thread
+            @SuppressWarnings("unchecked")
+            Supplier<Runnable>[] diffs = new Supplier[tabLists.length];
+            for (int i = 0; i < tabLists.length; i++) {
+                if (!tabLists[i].isBatchEnabled())
+                    diffs[i] = tabLists[i].prepareFlush(true);
+            }
+            Runnable[] sends = new Runnable[tabLists.length];
+            this.flushPool.invoke(new PrepareTask(diffs, sends, 0, tabLists.length));
+            for (Runnable send : sends) {
+                if (send != null)
+                    send.run();
+            }
+        }
+        TabMetrics.recordFlush(flushed);
+    }
+
+    /**
+     * Sets how many threads compute the changes of the dirty tab lists on a flush, 1 to compute them
+     * on the main thread (default). Items are still read and the packets still sent from the main
+     * thread, in the same order. Worth it with many tab lists changing at once, e.g. a global update
+     * with many players.
+     * @param flushParallelism
+     */
+    public void setFlushParallelism(int flushParallelism) {
+        Preconditions.checkArgument(flushParallelism > 0, "flushParallelism must be positive");
+        if (this.flushParallelism == flushParallelism)
+            return;
+        if (this.flushPool != null)
+            this.flushPool.shutdown();
+        this.flushPool = null;
+        this.flushParallelism = flushParallelism;
+
+        if (flushParallelism > 1) {
+            final AtomicInteger count = new AtomicInteger();
+            this.flushPool = new ForkJoinPool(flushParallelism, new ForkJoinWorkerThreadFactory() {
+                @Override
+                public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("Tabbed Flush Thread #" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            }, null, false);
+        }
+    }
+
+    /**
+     * Gets the number of latency updates not sent by the current tab lists, because the
+     * ping bars didn't change, see {@link SimpleTabList#setQuantizedPing(boolean)}.
+     * @return
+     */
+    public long getSuppressedPingUpdates() {
+        long total = 0;
+        for (TabList tabList : new HashSet<>(this.tabLists.values())) {
+            if (tabList instanceof SimpleTabList)
+                total += ((SimpleTabList) tabList).getSuppressedPingUpdates();
+        }
+        return total;
+    }
+
+    /**
+     * Builds and sends tab list packets on separate threads instead of the main thread.
+     * Packets to the same player are still sent in order. Turning it off waits for the packets
+     * already queued to be sent, so the packets sent from the main thread afterwards come after them.
+     * @param asyncSending
+     */
+    public void setAsyncSending(boolean asyncSending) {
+        if (asyncSending == isAsyncSending())
+            return;
+        if (asyncSending) {
+            this.packetExecutor = new PacketExecutor(PACKET_THREADS);
+        } else {
+            this.packetExecutor.shutdown();
+            this.packetExecutor = null;
+        }
+    }
+
+    /**
+     * Checks if packets are built and sent off the main thread.
+     * @return
+     */
+    public boolean isAsyncSending() {
+        return this.packetExecutor != null;
+    }
+
+    /**
+     * Sends the packets of an update to a player, on the packet threads if async sending is enabled.
+     * @param player
+     * @param update
+     * @param excluded Indexes to leave out, or null.
+     */
+    public void sendPackets(final Player player, final TabUpdate update, final BitSet excluded) {
+        int total = 0;
+        for (PlayerInfoAction action : ACTIONS) {
+            int entries = update.size(action, excluded);
+            if (entries > 0)
+                TabMetrics.recordPlayerInfo(this.plugin, player, action, entries, update.getEstimatedSize(action, excluded));
+            total += entries;
+        }
+
+        if (this.packetExecutor == null) {
+            send(player, update, excluded, total);
+            return;
+        }
+
+        final int entries = total;
+        this.packetExecutor.execute(player, new Runnable() {
+            @Override
+            public void run() {
+                send(player, update, excluded, entries);
+            }
+        });
+    }
+
+    private static void send(Player player, TabUpdate update, BitSet excluded, int entries) {
+        List<PacketContainer> packets = update.getPackets(excluded);
+        Timing timing = TabEvents.beginSend();
+        Packets.send(player, packets);
+        timing.end(player, update.getSlotCount(excluded), entries);
+    }
+
+    /**
+     * Runs every tick: counts the ticks pings are sampled by, plays header and footer animations,
+     * advances animated items, and flushes once per flush interval.
+     */
+    private void tick() {
+        Pings.tick(this);
+        this.headerFooterAnimator.tick();
+        this.frameClock.tick();
+        if (isFlushScheduled() && ++this.ticksSinceFlush >= this.flushInterval) {
+            this.ticksSinceFlush = 0;
+            flush();
+        }
+    }
+
+    /**
+     * Removes the tab lists of players who went offline without their quit being seen.
+     */
+    private void sweep() {
+        for (Entry<UUID,TabList> entry : this.tabLists.entrySet()) {
+            Player player = getPlayer(entry.getKey(), entry.getValue());
+            if (player == null) {
+                // no longer a member of the shared tab list
+                this.tabLists.remove(entry.getKey(), entry.getValue());
+            } else if (!player.isOnline()) {
+                log(Level.WARNING, "Removing the tab list of offline player " + player.getName());
+                forget(player);
+            }
+        }
+    }
+
+    private static Player getPlayer(UUID uuid, TabList tabList) {
+        if (!(tabList instanceof SharedTabList))
+            return tabList.getPlayer();
+        for (Player member : ((SharedTabList) tabList).getMembers()) {
+            if (member.getUniqueId().equals(uuid))
+                return member;
+        }
+        return null;
+    }
+
+    private void forget(Player player) {
+        destroyTabList(player);
+        Pings.forget(player);
+        TabMetrics.forget(player);
+        if (this.packetExecutor != null)
+            this.packetExecutor.remove(player);
+    }
+
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerQuit(PlayerQuitEvent event) {
-        destroyTabList(event.getPlayer());
+        forget(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+        if (event.getPlugin() == this.plugin) {
+            setAsyncSending(false);
+            setFlushParallelism(1);
+            Pings.stopClock(this);
+            instances.remove(this.plugin, this);
+        }
     }
 
     /**
-     * Get the current tab list of the player.
+     * Get the current tab list of the player. Safe to call from any thread.
      * @param player
      * @return The tab list, or null if it wasn't present.
      */
     public TabList getTabList(Player player) {
-        return this.tabLists.get(player);
+        return getTabList(player.getUniqueId());
+    }
+
+    /**
+     * Get the current tab list of a player. Safe to call from any thread.
+     * @param uuid The uuid of the player.
+     * @return The tab list, or null if it wasn't present.
+     */
+    public TabList getTabList(UUID uuid) {
+        return this.tabLists.get(uuid);
+    }
+
+    /**
+     * Gets the tab list of every player by player uuid. It is a live view, not a copy, and is safe
+     * to iterate from any thread: iteration never fails, but may not see changes made meanwhile.
+     * A shared tab list is there once per member.
+     * @return
+     */
+    public Map<UUID,TabList> getTabLists() {
+        return this.tabListsView;
     }
 
     /**
@@ -66,16 +403,32 @@ public class Tabbed implements Listener {
         TabList tabList = getTabList(player);
         if (tabList == null)
             return null;
-        this.tabLists.remove(player);
+        this.tabLists.remove(player.getUniqueId());
+        if (tabList instanceof SharedTabList) {
+            // only stop showing it to this player
+            ((SharedTabList) tabList).removeMember(player);
+            return tabList;
+        }
+        this.dirtyTabLists.remove(tabList);
+        if (tabList instanceof TitledTabList)
+            this.headerFooterAnimator.stop((TitledTabList) tabList);
         return tabList.disable();
     }
 
     /**
-     * Disables a tab list.
+     * Disables a tab list. Shared tab lists are removed from all of their members.
      * @param tabList
      * @return The tab list removed.
      */
     public TabList destroyTabList(TabList tabList) {
+        if (tabList instanceof SharedTabList) {
+            SharedTabList sharedTabList = (SharedTabList) tabList;
+            for (Player member : sharedTabList.getMembers())
+                this.tabLists.remove(member.getUniqueId());
+            this.dirtyTabLists.remove(sharedTabList);
+            this.headerFooterAnimator.stop(sharedTabList);
+            return sharedTabList.disable();
+        }
         return destroyTabList(tabList.getPlayer());
     }
 
@@ -85,7 +438,7 @@ public class Tabbed implements Listener {
      * @return
      */
     public TitledTabList newTitledTabList(Player player) {
-        return put(player, new TitledTabList(player).enable());
+        return put(player, new TitledTabList(this, player).enable());
     }
 
     /**
@@ -181,9 +534,89 @@ public class Tabbed implements Listener {
         return put(player, new TableTabList(this, player, columns, minColumnWidth, maxColumnWidth).enable());
     }
 
+    /**
+     * Creates a new SharedTabList, it isn't shown to anyone until {@link #showSharedTabList(Player, SharedTabList)}.
+     * @return
+     */
+    public SharedTabList newSharedTabList() {
+        return newSharedTabList(4);
+    }
+
+    /**
+     * Creates a new SharedTabList with the given parameters.
+     * @param columns
+     * @return
+     */
+    public SharedTabList newSharedTabList(int columns) {
+        return newSharedTabList(columns, -1);
+    }
+
+    /**
+     * Creates a new SharedTabList with the given parameters.
+     * @param columns
+     * @param minColumnWidth
+     * @return
+     */
+    public SharedTabList newSharedTabList(int columns, int minColumnWidth) {
+        return newSharedTabList(columns, minColumnWidth, -1);
+    }
+
+    /**
+     * Creates a new SharedTabList with the given parameters.
+     * @param columns
+     * @param minColumnWidth
+     * @param maxColumnWidth
+     * @return
+     */
+    public SharedTabList newSharedTabList(int columns, int minColumnWidth, int maxColumnWidth) {
+        return new SharedTabList(this, columns, minColumnWidth, maxColumnWidth).enable();
+    }
+
+    /**
+     * Shows a shared tab list to a player, it becomes the player's tab list.
+     * @param player
+     * @param tabList
+     * @return The shared tab list.
+     */
+    public SharedTabList showSharedTabList(Player player, SharedTabList tabList) {
+        put(player, tabList);
+        tabList.addMember(player);
+        return tabList;
+    }
+
     private <T extends TabList> T put(Player player, T tabList) {
-        Preconditions.checkArgument(!this.tabLists.containsKey(player), "player '" + player.getName() + "' already has a tablist");
-        this.tabLists.put(player, tabList);
+        TabList previous = this.tabLists.putIfAbsent(player.getUniqueId(), tabList);
+        Preconditions.checkArgument(previous == null, "player '" + player.getName() + "' already has a tablist");
         return tabList;
     }
+
+    /**
+     * Computes the changes captured for a range of tab lists, splitting it up between threads.
+     */
+    private static class PrepareTask extends RecursiveAction {
+        private final Supplier<Runnable>[] diffs;
+        private final Runnable[] sends;
+        private final int from;
+        private final int to;
+
+        private PrepareTask(Supplier<Runnable>[] diffs, Runnable[] sends, int from, int to) {
+            this.diffs = diffs;
+            this.sends = sends;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > PREPARE_BATCH) {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new PrepareTask(this.diffs, this.sends, this.from, middle), new PrepareTask(this.diffs, this.sends, middle, this.to));
+                return;
+            }
+            for (int i = this.from; i < this.to; i++) {
+                if (this.diffs[i] != null)
+                    this.sends[i] = this.diffs[i].get();
+            }
+        }
+    }
 }
@@ -0,0 +1,185 @@
+package com.keenant.tabbed.item;
+
+import com.google.common.base.Preconditions;
+import com.keenant.tabbed.item.TabItemListener.Property;
+import com.keenant.tabbed.tablist.FrameClock;
+import com.keenant.tabbed.util.Skin;
+import com.keenant.tabbed.util.Skins;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A tab item that cycles through frames of text, ping and skin.
+ *
+ * Frames are advanced by the {@link FrameClock} of Tabbed, which starts driving the item once
+ * it is in a tab list. Every tab list showing the same item is on the same frame, and the
+ * player info of a frame is built once per index.
+ */
+@ToString(exclude = "listeners")
+public class AnimatedTabItem implements ObservableTabItem {
+    @Getter private final int interval;
+    private final List<Frame> frames;
+    private int frame;
+
+    private List<TabItemListener> listeners;
+
+    /**
+     * @param interval How long (in ticks) each frame is shown.
+     */
+    public AnimatedTabItem(int interval) {
+        Preconditions.checkArgument(interval > 0, "interval must be positive");
+        this.interval = interval;
+        this.frames = new ArrayList<>();
+    }
+
+    /**
+     * Adds a frame at the end of the animation.
+     * @param text
+     * @param ping
+     * @param skin
+     * @return This item.
+     */
+    public AnimatedTabItem addFrame(String text, int ping, Skin skin) {
+        this.frames.add(new Frame(this, text, ping, skin));
+        return this;
+    }
+
+    /**
+     * Adds a frame at the end of the animation, with the default ping and skin.
+     * @param text
+     * @return This item.
+     */
+    public AnimatedTabItem addFrame(String text) {
+        return addFrame(text, 1000, Skins.DEFAULT_SKIN);
+    }
+
+    /**
+     * @return The number of frames.
+     */
+    public int getFrameCount() {
+        return this.frames.size();
+    }
+
+    /**
+     * @return The frame shown now.
+     */
+    public Frame getCurrentFrame() {
+        return this.frames.get(this.frame);
+    }
+
+    /**
+     * Moves to the frame of a tick of the frame clock, telling listeners what changed.
+     * @param tick
+     */
+    public void advance(long tick) {
+        int next = (int) ((tick / this.interval) % this.frames.size());
+        if (next == this.frame)
+            return;
+
+        Frame previous = getCurrentFrame();
+        this.frame = next;
+        Frame current = getCurrentFrame();
+
+        if (!Objects.equals(previous.getText(), current.getText()))
+            notifyListeners(Property.TEXT);
+        if (previous.getPing() != current.getPing())
+            notifyListeners(Property.PING);
+        if (!Objects.equals(previous.getSkin(), current.getSkin()))
+            notifyListeners(Property.SKIN);
+    }
+
+    /**
+     * @return True if a tab list holds this item.
+     */
+    public boolean isObserved() {
+        return this.listeners != null && !this.listeners.isEmpty();
+    }
+
+    @Override
+    public String getText() {
+        return getCurrentFrame().getText();
+    }
+
+    @Override
+    public int getPing() {
+        return getCurrentFrame().getPing();
+    }
+
+    @Override
+    public Skin getSkin() {
+        return getCurrentFrame().getSkin();
+    }
+
+    @Override
+    public boolean updateText() {
+        return false;
+    }
+
+    @Override
+    public boolean updatePing() {
+        return false;
+    }
+
+    @Override
+    public boolean updateSkin() {
+        return false;
+    }
+
+    @Override
+    public void addListener(TabItemListener listener) {
+        if (this.listeners == null)
+            this.listeners = new ArrayList<>(1);
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(TabItemListener listener) {
+        if (this.listeners != null)
+            this.listeners.remove(listener);
+    }
+
+    private void notifyListeners(Property property) {
+        if (this.listeners == null)
+            return;
+        for (int i = 0; i < this.listeners.size(); i++)
+            this.listeners.get(i).onChange(this, property);
+    }
+
+    /**
+     * One frame of an animated item, it never changes. Tab lists remember the frame the
+     * client was sent, rather than the animated item.
+     */
+    @ToString(of = {"text", "ping"})
+    public static final class Frame implements TabItem {
+        @Getter private final AnimatedTabItem owner;
+        @Getter private final String text;
+        @Getter private final int ping;
+        @Getter private final Skin skin;
+
+        private Frame(AnimatedTabItem owner, String text, int ping, Skin skin) {
+            this.owner = owner;
+            this.text = text;
+            this.ping = ping;
+            this.skin = skin;
+        }
+
+        @Override
+        public boolean updateText() {
+            return false;
+        }
+
+        @Override
+        public boolean updatePing() {
+            return false;
+        }
+
+        @Override
+        public boolean updateSkin() {
+            return false;
+        }
+    }
+}
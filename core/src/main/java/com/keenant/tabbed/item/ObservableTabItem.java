@@ -0,0 +1,19 @@
+package com.keenant.tabbed.item;
+
+/**
+ * A tab item that tells the tab lists holding it when it changes. Tab lists don't have to
+ * check these items on every update, only once they've been told about a change.
+ */
+public interface ObservableTabItem extends TabItem {
+    /**
+     * Starts notifying a listener of changes.
+     * @param listener
+     */
+    void addListener(TabItemListener listener);
+
+    /**
+     * Stops notifying a listener of changes.
+     * @param listener
+     */
+    void removeListener(TabItemListener listener);
+}
@@ -1,14 +1,21 @@
 package com.keenant.tabbed.item;
 
-import com.keenant.tabbed.util.Reflection;
+import com.keenant.tabbed.util.Pings;
 import com.keenant.tabbed.util.Skin;
 import com.keenant.tabbed.util.Skins;
 import lombok.Getter;
 import lombok.ToString;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
+import java.util.Objects;
+
 /**
  * A tab item that represents a player.
+ *
+ * The player is only read on the main thread. Created on another thread, for
+ * {@link com.keenant.tabbed.tablist.SimpleTabList#queueSet(int, TabItem)}, it has no text,
+ * ping or skin until the tab list updates it before sending it.
  */
 @ToString
 public class PlayerTabItem implements TabItem {
@@ -23,12 +30,11 @@ public class PlayerTabItem implements TabItem {
         this.player = player;
         this.textProvider = textProvider;
         this.skinProvider = skinProvider;
-        this.text = textProvider.get(player);
-        this.ping = getNewPing();
-        this.skin = skinProvider.get(player);
-        updateText();
-        updatePing();
-        updateSkin();
+        if (Bukkit.isPrimaryThread()) {
+            this.text = textProvider.get(player);
+            this.ping = getNewPing();
+            this.skin = skinProvider.get(player);
+        }
     }
 
     public PlayerTabItem(Player player, PlayerProvider<String> textProvider) {
@@ -73,12 +79,7 @@ public class PlayerTabItem implements TabItem {
     }
 
     private int getNewPing() {
-        try {
-            Object craftPlayer = Reflection.getHandle(this.player);
-            return craftPlayer.getClass().getDeclaredField("ping").getInt(craftPlayer);
-        } catch (Exception e) {
-            throw new RuntimeException("couldn't get player ping", e);
-        }
+        return Pings.getPing(this.player);
     }
 
     private static PlayerProvider<String> NAME_PROVIDER = new PlayerProvider<String>() {
@@ -118,6 +119,6 @@ public class PlayerTabItem implements TabItem {
         if (!(object instanceof PlayerTabItem))
             return false;
         PlayerTabItem other = (PlayerTabItem) object;
-        return this.text.equals(other.getText()) && this.skin.equals(other.getSkin()) && this.ping == other.getPing();
+        return Objects.equals(this.text, other.getText()) && Objects.equals(this.skin, other.getSkin()) && this.ping == other.getPing();
     }
 }
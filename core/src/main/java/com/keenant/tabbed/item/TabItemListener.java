@@ -0,0 +1,22 @@
+package com.keenant.tabbed.item;
+
+/**
+ * Notified when an {@link ObservableTabItem} changes.
+ */
+public interface TabItemListener {
+    /**
+     * Called when a property of the item has been changed.
+     * @param item
+     * @param property
+     */
+    void onChange(TabItem item, Property property);
+
+    /**
+     * A property of a tab item.
+     */
+    enum Property {
+        TEXT,
+        PING,
+        SKIN
+    }
+}
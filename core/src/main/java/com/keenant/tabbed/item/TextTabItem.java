@@ -1,17 +1,23 @@
 package com.keenant.tabbed.item;
 
+import com.keenant.tabbed.item.TabItemListener.Property;
 import com.keenant.tabbed.util.Skin;
 import com.keenant.tabbed.util.Skins;
 import lombok.Getter;
 import lombok.ToString;
+import org.bukkit.plugin.Plugin;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * A tab item with custom text, ping and skin.
  */
-@ToString
-public class TextTabItem implements TabItem {
+@ToString(exclude = {"listeners", "pendingSkin"})
+public class TextTabItem implements ObservableTabItem {
     @Getter private String text;
     @Getter private int ping;
     @Getter private Skin skin;
@@ -19,6 +25,9 @@ public class TextTabItem implements TabItem {
     private String newText;
     private int newPing;
     private Skin newSkin;
+    private CompletableFuture<Skin> pendingSkin; // set once resolved, unless replaced
+
+    private List<TabItemListener> listeners;
 
     public TextTabItem(String text) {
         this(text, 1000);
@@ -38,15 +47,81 @@ public class TextTabItem implements TabItem {
     }
 
     public void setText(String text) {
+        if (Objects.equals(this.newText, text))
+            return;
         this.newText = text;
+        notifyListeners(Property.TEXT);
     }
 
     public void setPing(int ping) {
+        if (this.newPing == ping)
+            return;
         this.newPing = ping;
+        notifyListeners(Property.PING);
     }
 
     public void setSkin(Skin skin) {
+        this.pendingSkin = null;
+        applySkin(skin);
+    }
+
+    /**
+     * Shows DEFAULT_SKIN until the skin is resolved, then shows the skin. The skin is set
+     * on the main thread, see {@link Skins#getPlayerAsync(java.util.UUID)}.
+     * @param plugin The plugin to schedule the change with.
+     * @param skin
+     */
+    public void setSkin(final Plugin plugin, final CompletableFuture<Skin> skin) {
+        Skin resolved = skin.getNow(null);
+        if (resolved != null) {
+            setSkin(resolved);
+            return;
+        }
+
+        setSkin(Skins.DEFAULT_SKIN);
+        this.pendingSkin = skin;
+        skin.thenAccept(new Consumer<Skin>() {
+            @Override
+            public void accept(final Skin resolved) {
+                plugin.getServer().getScheduler().runTask(plugin, new Runnable() {
+                    @Override
+                    public void run() {
+                        // setSkin was called again in the meantime
+                        if (pendingSkin != skin)
+                            return;
+                        pendingSkin = null;
+                        applySkin(resolved);
+                    }
+                });
+            }
+        });
+    }
+
+    private void applySkin(Skin skin) {
+        if (Objects.equals(this.newSkin, skin))
+            return;
         this.newSkin = skin;
+        notifyListeners(Property.SKIN);
+    }
+
+    @Override
+    public void addListener(TabItemListener listener) {
+        if (this.listeners == null)
+            this.listeners = new ArrayList<>(1);
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(TabItemListener listener) {
+        if (this.listeners != null)
+            this.listeners.remove(listener);
+    }
+
+    private void notifyListeners(Property property) {
+        if (this.listeners == null)
+            return;
+        for (int i = 0; i < this.listeners.size(); i++)
+            this.listeners.get(i).onChange(this, property);
     }
 
     @Override
@@ -1,28 +1,17 @@
 package com.keenant.tabbed.tablist;
 
-import com.keenant.tabbed.item.TabItem;
 import com.keenant.tabbed.Tabbed;
 import com.keenant.tabbed.item.PlayerTabItem;
-import org.bukkit.Bukkit;
+import com.keenant.tabbed.item.TabItem;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.event.player.PlayerQuitEvent;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * An implementation of SimpleTabList that behaves like vanilla Minecraft.
+ *
+ * It shows the {@link PlayerRoster} of {@link Tabbed}, which tracks joins, quits and
+ * list names once for every DefaultTabList.
  */
-public final class DefaultTabList extends SimpleTabList implements Listener {
-    private Map<Player,String> names = new HashMap<>();
-
-    private int taskId;
-
+public final class DefaultTabList extends SimpleTabList {
     public DefaultTabList(Tabbed tabbed, Player player, int maxItems) {
         super(tabbed, player, maxItems, -1, -1);
     }
@@ -30,76 +19,35 @@ public final class DefaultTabList extends SimpleTabList implements Listener {
     @Override
     public DefaultTabList enable() {
         super.enable();
-        this.tabbed.getPlugin().getServer().getPluginManager().registerEvents(this, this.tabbed.getPlugin());
-
-        for (Player target : Bukkit.getOnlinePlayers())
-            addPlayer(target);
-
-        // Because there is no PlayerListNameUpdateEvent in Bukkit
-        this.taskId = this.tabbed.getPlugin().getServer().getScheduler().scheduleSyncRepeatingTask(this.tabbed.getPlugin(), new Runnable() {
-            @Override
-            public void run() {
-                for (Player target : Bukkit.getOnlinePlayers()) {
-                    if (!names.containsKey(target))
-                        continue;
-
-                    String prevName = names.get(target);
-                    String currName = target.getPlayerListName();
-
-                    if (prevName.equals(currName))
-                        continue;
-
-                    int index = getTabItemIndex(target);
-                    update(index);
-                    names.put(target, currName);
-                }
-            }
-        }, 0, 5);
-
+        this.tabbed.getRoster().addViewer(this);
         return this;
     }
 
     @Override
     public DefaultTabList disable() {
         super.disable();
-        HandlerList.unregisterAll(this);
-        this.tabbed.getPlugin().getServer().getScheduler().cancelTask(this.taskId);
+        this.tabbed.getRoster().removeViewer(this);
         return this;
     }
 
-    @EventHandler
-    public void onPlayerJoin(PlayerJoinEvent event) {
-        addPlayer(event.getPlayer());
+    void showPlayer(int index, Player player) {
+        if (index < getMaxItems())
+            set(index, new PlayerTabItem(player));
     }
 
-    @EventHandler
-    public void onPlayerJoin(PlayerQuitEvent event) {
-        remove(getTabItemIndex(event.getPlayer()));
+    void hidePlayer(int index) {
+        if (index < getMaxItems())
+            remove(index);
     }
 
-    private void addPlayer(Player player) {
-        add(getInsertLocation(player), new PlayerTabItem(player));
-        this.names.put(player, player.getPlayerListName());
+    void updatePlayer(int index) {
+        update(index);
     }
 
-    private int getTabItemIndex(Player player) {
-        for (Entry<Integer,TabItem> item : this.items.entrySet()) {
-            // items will always be players in this case, cast is safe
-            PlayerTabItem tabItem = (PlayerTabItem) item.getValue();
-            if (tabItem.getPlayer().equals(player))
-                return item.getKey();
-        }
-        return -1;
-    }
-
-    private int getInsertLocation(Player player) {
-        for (Entry<Integer,TabItem> item : this.items.entrySet()) {
-            // items will always be players in this case, cast is safe
-            PlayerTabItem tabItem = (PlayerTabItem) item.getValue();
-
-            if (player.getName().compareTo(tabItem.getPlayer().getName()) < 0)
-                return item.getKey();
-        }
-        return getNextIndex();
+    void movePlayer(int from, int to, Player player) {
+        if (to >= getMaxItems())
+            return;
+        TabItem item = this.items.get(from);
+        set(to, item == null ? new PlayerTabItem(player) : item);
     }
 }
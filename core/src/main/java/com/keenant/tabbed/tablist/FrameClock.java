@@ -0,0 +1,49 @@
+package com.keenant.tabbed.tablist;
+
+import com.google.common.base.Preconditions;
+import com.keenant.tabbed.Tabbed;
+import com.keenant.tabbed.item.AnimatedTabItem;
+import lombok.Getter;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Advances every {@link AnimatedTabItem} in the tab lists of a Tabbed instance, ticked by
+ * {@link Tabbed}. Items are added when they are put in a tab list and dropped once no tab list holds them.
+ */
+public class FrameClock {
+    private final Set<AnimatedTabItem> items;
+    @Getter private long tick;
+
+    public FrameClock() {
+        this.items = new LinkedHashSet<>();
+    }
+
+    /**
+     * Starts advancing an item, it is moved to the frame of the current tick.
+     * @param item
+     */
+    public void add(AnimatedTabItem item) {
+        Preconditions.checkArgument(item.getFrameCount() > 0, "item has no frames");
+        if (!this.items.add(item))
+            return;
+        item.advance(this.tick);
+    }
+
+    /**
+     * Counts a tick and advances the items. Called by {@link Tabbed} every tick, before it flushes.
+     */
+    public void tick() {
+        this.tick++;
+        Iterator<AnimatedTabItem> iterator = this.items.iterator();
+        while (iterator.hasNext()) {
+            AnimatedTabItem item = iterator.next();
+            if (item.isObserved())
+                item.advance(this.tick);
+            else
+                iterator.remove();
+        }
+    }
+}
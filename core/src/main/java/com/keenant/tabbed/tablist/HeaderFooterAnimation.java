@@ -0,0 +1,71 @@
+package com.keenant.tabbed.tablist;
+
+import com.comphenix.protocol.events.PacketContainer;
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A sequence of headers and footers, shown one after another. The packet of each frame is
+ * built once and shared by every tab list playing the animation.
+ *
+ * Played by the {@link HeaderFooterAnimator} of Tabbed.
+ */
+@ToString(exclude = "frames")
+public class HeaderFooterAnimation {
+    @Getter private final int interval;
+    private final List<Frame> frames;
+
+    /**
+     * @param interval How long (in ticks) each frame is shown.
+     */
+    public HeaderFooterAnimation(int interval) {
+        Preconditions.checkArgument(interval > 0, "interval must be positive");
+        this.interval = interval;
+        this.frames = new ArrayList<>();
+    }
+
+    /**
+     * Adds a frame at the end of the animation.
+     * @param header The header or null for none.
+     * @param footer The footer or null for none.
+     * @return This animation.
+     */
+    public HeaderFooterAnimation addFrame(String header, String footer) {
+        this.frames.add(new Frame(header, footer, TitledTabList.getHeaderFooterPacket(header, footer)));
+        return this;
+    }
+
+    /**
+     * @return The number of frames.
+     */
+    public int getFrameCount() {
+        return this.frames.size();
+    }
+
+    Frame getFrame(int index) {
+        return this.frames.get(index);
+    }
+
+    /**
+     * A header and footer, and their packet.
+     */
+    static class Frame {
+        final String header;
+        final String footer;
+        final PacketContainer packet;
+
+        private Frame(String header, String footer, PacketContainer packet) {
+            this.header = header;
+            this.footer = footer;
+            this.packet = packet;
+        }
+
+        void show(TitledTabList tabList) {
+            tabList.showHeaderFooter(this.header, this.footer, this.packet);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.keenant.tabbed.tablist;
+
+import com.google.common.base.Preconditions;
+import com.keenant.tabbed.Tabbed;
+import com.keenant.tabbed.tablist.HeaderFooterAnimation.Frame;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Plays header and footer animations on tab lists, ticked by {@link Tabbed}. Tab lists playing
+ * the same animation are on the same frame and share its packet. A frame is only sent to a
+ * tab list if its header or footer differs from the one shown.
+ */
+public class HeaderFooterAnimator {
+    private final Map<HeaderFooterAnimation,Playback> playbacks;
+    private final Map<TitledTabList,Playback> playing;
+
+    public HeaderFooterAnimator() {
+        this.playbacks = new LinkedHashMap<>();
+        this.playing = new HashMap<>();
+    }
+
+    /**
+     * Plays an animation on a tab list, in place of any animation it was playing.
+     * It joins the tab lists already playing it, on their current frame.
+     * @param tabList
+     * @param animation
+     */
+    public void play(TitledTabList tabList, HeaderFooterAnimation animation) {
+        Preconditions.checkArgument(animation.getFrameCount() > 0, "animation has no frames");
+        stop(tabList);
+
+        Playback playback = this.playbacks.computeIfAbsent(animation, new Function<HeaderFooterAnimation,Playback>() {
+            @Override
+            public Playback apply(HeaderFooterAnimation key) {
+                return new Playback(key);
+            }
+        });
+        playback.tabLists.add(tabList);
+        this.playing.put(tabList, playback);
+        playback.getFrame().show(tabList);
+    }
+
+    /**
+     * Stops the animation of a tab list, the last frame stays shown.
+     * @param tabList
+     */
+    public void stop(TitledTabList tabList) {
+        Playback playback = this.playing.remove(tabList);
+        if (playback == null)
+            return;
+
+        playback.tabLists.remove(tabList);
+        if (playback.tabLists.isEmpty())
+            this.playbacks.remove(playback.animation);
+    }
+
+    /**
+     * Gets the animation a tab list is playing.
+     * @param tabList
+     * @return The animation or null if there is none.
+     */
+    public HeaderFooterAnimation getAnimation(TitledTabList tabList) {
+        Playback playback = this.playing.get(tabList);
+        return playback == null ? null : playback.animation;
+    }
+
+    /**
+     * Counts a tick, showing the next frame of animations due for one. Called by {@link Tabbed}
+     * every tick, before it flushes.
+     */
+    public void tick() {
+        for (Playback playback : this.playbacks.values()) {
+            if (!playback.advance())
+                continue;
+
+            Frame frame = playback.getFrame();
+            for (TitledTabList tabList : playback.tabLists)
+                frame.show(tabList);
+        }
+    }
+
+    /**
+     * The tab lists on an animation, and its current frame.
+     */
+    private static class Playback {
+        private final HeaderFooterAnimation animation;
+        private final Set<TitledTabList> tabLists = new LinkedHashSet<>();
+        private int ticks;
+        private int frame;
+
+        private Playback(HeaderFooterAnimation animation) {
+            this.animation = animation;
+        }
+
+        private Frame getFrame() {
+            return this.animation.getFrame(this.frame);
+        }
+
+        /**
+         * Counts a tick.
+         * @return True if it moved to a frame with a different header or footer.
+         */
+        private boolean advance() {
+            if (++this.ticks < this.animation.getInterval())
+                return false;
+            this.ticks = 0;
+
+            Frame previous = getFrame();
+            // frames may be added while playing
+            this.frame = (this.frame + 1) % this.animation.getFrameCount();
+            Frame next = getFrame();
+            return next != previous && !(Objects.equals(next.header, previous.header) && Objects.equals(next.footer, previous.footer));
+        }
+    }
+}
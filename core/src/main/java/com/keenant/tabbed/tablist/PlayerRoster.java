@@ -0,0 +1,245 @@
+package com.keenant.tabbed.tablist;
+
+import com.keenant.tabbed.Tabbed;
+import com.keenant.tabbed.util.TabEvents;
+import com.keenant.tabbed.util.TabEvents.Timing;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * The online players shown by every {@link DefaultTabList} of a Tabbed instance, and the
+ * index of each one. Joins, quits and list name changes are handled once here and passed
+ * on to every tab list showing the roster.
+ *
+ * Players are kept sorted by name. A joining player goes to a free index between its
+ * neighbours if there is one, otherwise the fewest players possible are moved by one
+ * towards the nearest free index. Quitting players leave their index free.
+ */
+public class PlayerRoster implements Listener {
+    private final Tabbed tabbed;
+    private final NavigableSet<Entry> sorted = new TreeSet<>();
+    private final Map<UUID,Entry> entries = new HashMap<>();
+    private final Entry[] slots = new Entry[SimpleTabList.MAXIMUM_ITEMS];
+    private final Set<DefaultTabList> viewers = new LinkedHashSet<>();
+
+    private int taskId = -1;
+
+    public PlayerRoster(Tabbed tabbed) {
+        this.tabbed = tabbed;
+    }
+
+    /**
+     * @return The number of players in the roster.
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Gets the index of a player.
+     * @param player
+     * @return The index or -1 if the player isn't in the roster.
+     */
+    public int getIndex(Player player) {
+        Entry entry = this.entries.get(player.getUniqueId());
+        return entry == null ? -1 : entry.slot;
+    }
+
+    /**
+     * Starts showing the roster in a tab list. The roster is kept up to date while
+     * it is shown in at least one tab list.
+     * @param tabList
+     */
+    void addViewer(DefaultTabList tabList) {
+        if (this.viewers.isEmpty())
+            start();
+        this.viewers.add(tabList);
+        for (Entry entry : this.sorted)
+            tabList.showPlayer(entry.slot, entry.player);
+    }
+
+    /**
+     * Stops showing the roster in a tab list.
+     * @param tabList
+     */
+    void removeViewer(DefaultTabList tabList) {
+        if (this.viewers.remove(tabList) && this.viewers.isEmpty())
+            stop();
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        addPlayer(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        removePlayer(event.getPlayer());
+    }
+
+    private void start() {
+        this.tabbed.getPlugin().getServer().getPluginManager().registerEvents(this, this.tabbed.getPlugin());
+
+        for (Player player : Bukkit.getOnlinePlayers())
+            addPlayer(player);
+
+        // Because there is no PlayerListNameUpdateEvent in Bukkit
+        this.taskId = this.tabbed.getPlugin().getServer().getScheduler().scheduleSyncRepeatingTask(this.tabbed.getPlugin(), new Runnable() {
+            @Override
+            public void run() {
+                pollListNames();
+            }
+        }, 0, 5);
+    }
+
+    private void stop() {
+        HandlerList.unregisterAll(this);
+        if (this.taskId != -1)
+            this.tabbed.getPlugin().getServer().getScheduler().cancelTask(this.taskId);
+        this.taskId = -1;
+
+        this.sorted.clear();
+        this.entries.clear();
+        for (int index = 0; index < this.slots.length; index++)
+            this.slots[index] = null;
+    }
+
+    private void pollListNames() {
+        Timing timing = TabEvents.beginPoll();
+        int changed = 0;
+        for (Entry entry : this.entries.values()) {
+            String listName = entry.player.getPlayerListName();
+            if (listName.equals(entry.listName))
+                continue;
+
+            entry.listName = listName;
+            changed++;
+            for (DefaultTabList viewer : this.viewers)
+                viewer.updatePlayer(entry.slot);
+        }
+        timing.end(null, this.entries.size(), changed * this.viewers.size());
+    }
+
+    private void addPlayer(Player player) {
+        if (this.entries.containsKey(player.getUniqueId()))
+            return;
+
+        Entry entry = new Entry(player);
+        Entry lower = this.sorted.lower(entry);
+        Entry higher = this.sorted.higher(entry);
+        int min = lower == null ? 0 : lower.slot + 1;
+        int max = higher == null ? this.slots.length : higher.slot; // exclusive
+
+        int slot = nextFree(min);
+        if (slot >= max) {
+            slot = makeRoom(min, max);
+            if (slot < 0) // full, the player isn't shown
+                return;
+        }
+
+        entry.slot = slot;
+        this.sorted.add(entry);
+        this.entries.put(entry.uuid, entry);
+        this.slots[slot] = entry;
+        for (DefaultTabList viewer : this.viewers)
+            viewer.showPlayer(slot, player);
+    }
+
+    private void removePlayer(Player player) {
+        Entry entry = this.entries.remove(player.getUniqueId());
+        if (entry == null)
+            return;
+
+        this.sorted.remove(entry);
+        this.slots[entry.slot] = null;
+        for (DefaultTabList viewer : this.viewers)
+            viewer.hidePlayer(entry.slot);
+    }
+
+    /**
+     * Frees an index between min (inclusive) and max (exclusive), when all of them are taken,
+     * by moving the players on one side towards the nearest free index.
+     * @param min
+     * @param max
+     * @return The free index or -1 if the roster is full.
+     */
+    private int makeRoom(int min, int max) {
+        int up = nextFree(max);
+        int down = previousFree(min - 1);
+        boolean canUp = up < this.slots.length;
+        boolean canDown = down >= 0;
+
+        if (canUp && (!canDown || up - max <= min - 1 - down)) {
+            for (int index = up; index > max; index--)
+                move(index - 1, index);
+            return max;
+        }
+        if (canDown) {
+            for (int index = down; index < min - 1; index++)
+                move(index + 1, index);
+            return min - 1;
+        }
+        return -1;
+    }
+
+    private void move(int from, int to) {
+        Entry entry = this.slots[from];
+        entry.slot = to;
+        this.slots[to] = entry;
+        this.slots[from] = null;
+        for (DefaultTabList viewer : this.viewers)
+            viewer.movePlayer(from, to, entry.player);
+    }
+
+    private int nextFree(int fromIndex) {
+        int index = fromIndex;
+        while (index < this.slots.length && this.slots[index] != null)
+            index++;
+        return index;
+    }
+
+    private int previousFree(int fromIndex) {
+        int index = fromIndex;
+        while (index >= 0 && this.slots[index] != null)
+            index--;
+        return index;
+    }
+
+    /**
+     * A player in the roster, ordered by name.
+     */
+    private static final class Entry implements Comparable<Entry> {
+        private final Player player;
+        private final String name;
+        private final UUID uuid;
+        private String listName;
+        private int slot;
+
+        private Entry(Player player) {
+            this.player = player;
+            this.name = player.getName();
+            this.uuid = player.getUniqueId();
+            this.listName = player.getPlayerListName();
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int result = this.name.compareTo(other.name);
+            return result != 0 ? result : this.uuid.compareTo(other.uuid);
+        }
+    }
+}
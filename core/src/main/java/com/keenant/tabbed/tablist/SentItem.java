@@ -0,0 +1,40 @@
+package com.keenant.tabbed.tablist;
+
+import com.keenant.tabbed.item.TabItem;
+import com.keenant.tabbed.util.Skin;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The text, ping and skin a client was sent for an item, it never changes. Tab lists
+ * compare items against it, so an item shown by many tab lists updates every one of them.
+ */
+@ToString(of = {"text", "ping"})
+final class SentItem implements TabItem {
+    @Getter private final TabItem source;
+    @Getter private final String text;
+    @Getter private final int ping;
+    @Getter private final Skin skin;
+
+    SentItem(TabItem source, String text, int ping, Skin skin) {
+        this.source = source;
+        this.text = text;
+        this.ping = ping;
+        this.skin = skin;
+    }
+
+    @Override
+    public boolean updateText() {
+        return false;
+    }
+
+    @Override
+    public boolean updatePing() {
+        return false;
+    }
+
+    @Override
+    public boolean updateSkin() {
+        return false;
+    }
+}
@@ -0,0 +1,318 @@
+package com.keenant.tabbed.tablist;
+
+import com.comphenix.protocol.events.PacketContainer;
+import com.google.common.base.Preconditions;
+import com.keenant.tabbed.Tabbed;
+import com.keenant.tabbed.item.AnimatedTabItem;
+import com.keenant.tabbed.item.ObservableTabItem;
+import com.keenant.tabbed.item.TabItem;
+import com.keenant.tabbed.item.TabItemListener;
+import lombok.ToString;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+
+/**
+ * A TableTabList shown to many players at once. Changes are diffed once and the
+ * same packets are sent to every member. Members can override a few slots for
+ * themselves, only those slots are diffed per member.
+ *
+ * It doesn't have a single player, {@link #getPlayer()} is always null. Members
+ * are added and removed through {@link Tabbed}.
+ */
+@ToString(callSuper = true, exclude = "members")
+public class SharedTabList extends TableTabList {
+    private final Map<Player,Member> members;
+
+    public SharedTabList(Tabbed tabbed, int columns, int minColumnWidth, int maxColumnWidth) {
+        super(tabbed, null, columns, minColumnWidth, maxColumnWidth);
+        this.members = new LinkedHashMap<>();
+    }
+
+    @Override
+    public SharedTabList enable() {
+        super.enable();
+        return this;
+    }
+
+    @Override
+    public SharedTabList disable() {
+        for (Player player : new ArrayList<>(this.members.keySet()))
+            removeMember(player);
+        super.disable();
+        return this;
+    }
+
+    /**
+     * @return The players seeing this tab list.
+     */
+    public Set<Player> getMembers() {
+        return Collections.unmodifiableSet(this.members.keySet());
+    }
+
+    /**
+     * Checks if a player is seeing this tab list.
+     * @param player
+     * @return
+     */
+    public boolean isMember(Player player) {
+        return this.members.containsKey(player);
+    }
+
+    /**
+     * Shows this tab list to a player, see {@link Tabbed#showSharedTabList(Player, SharedTabList)}.
+     * @param player
+     */
+    public void addMember(Player player) {
+        Preconditions.checkArgument(!isMember(player), "player '" + player.getName() + "' is already a member");
+        this.members.put(player, new Member());
+
+        TabUpdate update = new TabUpdate(this);
+        for (int index = this.clientItems.nextOccupied(0); index >= 0; index = this.clientItems.nextOccupied(index + 1))
+            diff(index, null, this.clientItems.get(index), update);
+        if (!update.isEmpty())
+            this.tabbed.sendPackets(player, update, null);
+
+        if (getHeader() != null || getFooter() != null)
+            sendHeaderFooter(player, getHeader(), getFooter(), getHeaderFooterPacket());
+    }
+
+    /**
+     * Stops showing this tab list to a player, see {@link Tabbed#destroyTabList(Player)}.
+     * @param player
+     */
+    public void removeMember(Player player) {
+        Member member = this.members.remove(player);
+        if (member == null)
+            return;
+        for (int index = member.overrides.nextOccupied(0); index >= 0; index = member.overrides.nextOccupied(index + 1))
+            member.unobserve(index, member.overrides.get(index));
+
+        TabUpdate update = new TabUpdate(this);
+        for (int index = 0; index < MAXIMUM_ITEMS; index++)
+            diff(index, member.getShown(index, this.clientItems), null, update);
+        if (!update.isEmpty())
+            this.tabbed.sendPackets(player, update, null);
+
+        if (getHeader() != null || getFooter() != null)
+            sendHeaderFooter(player, null, null, getHeaderFooterPacket(null, null));
+    }
+
+    /**
+     * Shows a different item to one member at the given index.
+     * @param player The member.
+     * @param index
+     * @param item The item, or null to show the shared item again.
+     * @return The previous override, or null if there was none.
+     */
+    public TabItem setOverride(Player player, int index, TabItem item) {
+        Member member = getMember(player);
+        Preconditions.checkArgument(index >= 0 && index < getMaxItems(), "index not in allowed range");
+
+        TabItem previous = member.overrides.set(index, item);
+        if (previous != item) {
+            member.unobserve(index, previous);
+            if (item instanceof ObservableTabItem)
+                ((ObservableTabItem) item).addListener(member.getListener(this, index));
+            if (item instanceof AnimatedTabItem)
+                this.tabbed.getFrameClock().add((AnimatedTabItem) item);
+        }
+        member.dirty.set(index);
+        send();
+        return previous;
+    }
+
+    /**
+     * Shows a different item to one member at the given column and row.
+     * @param player The member.
+     * @param column
+     * @param row
+     * @param item The item, or null to show the shared item again.
+     * @return The previous override, or null if there was none.
+     */
+    public TabItem setOverride(Player player, int column, int row, TabItem item) {
+        validateCell(column, row);
+        return setOverride(player, getIndex(column, row), item);
+    }
+
+    /**
+     * Shows the shared item to a member again.
+     * @param player The member.
+     * @param index
+     * @return The override removed, or null if there was none.
+     */
+    public TabItem removeOverride(Player player, int index) {
+        return setOverride(player, index, null);
+    }
+
+    /**
+     * Shows the shared item to a member again.
+     * @param player The member.
+     * @param column
+     * @param row
+     * @return The override removed, or null if there was none.
+     */
+    public TabItem removeOverride(Player player, int column, int row) {
+        return setOverride(player, column, row, null);
+    }
+
+    /**
+     * Gets the override of a member at the given index.
+     * @param player The member.
+     * @param index
+     * @return The override or null if there is none.
+     */
+    public TabItem getOverride(Player player, int index) {
+        return getMember(player).overrides.get(index);
+    }
+
+    @Override
+    public void update() {
+        for (Member member : this.members.values()) {
+            for (int index = member.overrides.nextOccupied(0); index >= 0; index = member.overrides.nextOccupied(index + 1)) {
+                if (!(member.overrides.get(index) instanceof ObservableTabItem))
+                    member.dirty.set(index);
+            }
+        }
+        super.update();
+    }
+
+    @Override
+    public void update(int index) {
+        for (Member member : this.members.values()) {
+            if (member.overrides.contains(index))
+                member.dirty.set(index);
+        }
+        super.update(index);
+    }
+
+    @Override
+    public Supplier<Runnable> prepareFlush(final boolean build) {
+        // computed once for everyone
+        final Capture shared = captureDirty();
+        final List<MemberUpdate> memberUpdates = new ArrayList<>(this.members.size());
+        for (Entry<Player,Member> entry : this.members.entrySet()) {
+            Member member = entry.getValue();
+            // indexes showing an override are handled per member
+            MemberUpdate memberUpdate = new MemberUpdate(entry.getKey(), member, member.shown.isEmpty() ? null : (BitSet) member.shown.clone());
+            if (!member.dirty.isEmpty())
+                memberUpdate.capture = Capture.of(member.dirty, member.overrides, member.shownItems);
+            memberUpdates.add(memberUpdate);
+        }
+
+        return new Supplier<Runnable>() {
+            @Override
+            public Runnable get() {
+                final TabUpdate update = getUpdate(shared);
+                if (build && !update.isEmpty())
+                    update.getPackets();
+                for (MemberUpdate memberUpdate : memberUpdates) {
+                    if (memberUpdate.capture != null)
+                        diffOverrides(memberUpdate, build);
+                }
+
+                return new Runnable() {
+                    @Override
+                    public void run() {
+                        for (MemberUpdate memberUpdate : memberUpdates) {
+                            if (!update.isEmpty())
+                                tabbed.sendPackets(memberUpdate.player, update, memberUpdate.excluded);
+                            if (memberUpdate.overrides != null)
+                                tabbed.sendPackets(memberUpdate.player, memberUpdate.overrides, null);
+                        }
+                    }
+                };
+            }
+        };
+    }
+
+    private void diffOverrides(MemberUpdate memberUpdate, boolean build) {
+        Member member = memberUpdate.member;
+        Capture capture = memberUpdate.capture;
+        TabUpdate overrides = new TabUpdate(this);
+        for (int i = 0; i < capture.indexes.length; i++) {
+            int index = capture.indexes[i];
+            TabItem oldItem = member.getShown(index, this.clientItems);
+            TabItem override = capture.items[i];
+            TabItem sent = diff(index, oldItem, override == null ? this.clientItems.get(index) : override, overrides);
+            member.setShown(index, override == null ? null : sent);
+        }
+
+        if (!overrides.isEmpty()) {
+            if (build)
+                overrides.getPackets();
+            memberUpdate.overrides = overrides;
+        }
+    }
+
+    @Override
+    protected void sendHeaderFooter(String header, String footer, PacketContainer packet) {
+        for (Player player : this.members.keySet())
+            sendHeaderFooter(player, header, footer, packet);
+    }
+
+    private Member getMember(Player player) {
+        Member member = this.members.get(player);
+        Preconditions.checkArgument(member != null, "player '" + player.getName() + "' is not a member");
+        return member;
+    }
+
+    /**
+     * The overrides of a member, and the ones their client sees.
+     */
+    private static class Member {
+        private final TabSlots overrides = new TabSlots(MAXIMUM_ITEMS);
+        private final TabSlots shownItems = new TabSlots(MAXIMUM_ITEMS); // snapshots of the overrides sent
+        private final BitSet shown = new BitSet(MAXIMUM_ITEMS);
+        private final BitSet dirty = new BitSet(MAXIMUM_ITEMS);
+        private TabItemListener[] listeners;
+
+        private TabItem getShown(int index, TabSlots sharedItems) {
+            return this.shown.get(index) ? this.shownItems.get(index) : sharedItems.get(index);
+        }
+
+        private void setShown(int index, TabItem item) {
+            this.shownItems.set(index, item);
+            this.shown.set(index, item != null);
+        }
+
+        private TabItemListener getListener(final SharedTabList tabList, final int index) {
+            if (this.listeners == null)
+                this.listeners = new TabItemListener[MAXIMUM_ITEMS];
+            if (this.listeners[index] == null) {
+                this.listeners[index] = new TabItemListener() {
+                    @Override
+                    public void onChange(TabItem item, Property property) {
+                        dirty.set(index);
+                        tabList.send();
+                    }
+                };
+            }
+            return this.listeners[index];
+        }
+
+        private void unobserve(int index, TabItem item) {
+            if (item instanceof ObservableTabItem && this.listeners != null && this.listeners[index] != null)
+                ((ObservableTabItem) item).removeListener(this.listeners[index]);
+        }
+    }
+
+    /**
+     * What to send to a member on a flush.
+     */
+    private static class MemberUpdate {
+        private final Player player;
+        private final Member member;
+        private final BitSet excluded; // indexes showing an override, or null
+        private Capture capture; // overrides changed, or null
+        private TabUpdate overrides;
+
+        private MemberUpdate(Player player, Member member, BitSet excluded) {
+            this.player = player;
+            this.member = member;
+            this.excluded = excluded;
+        }
+    }
+}
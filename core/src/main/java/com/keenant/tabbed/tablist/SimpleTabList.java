@@ -1,54 +1,94 @@
 package com.keenant.tabbed.tablist;
 
-import com.comphenix.protocol.events.PacketContainer;
 import com.comphenix.protocol.wrappers.EnumWrappers.NativeGameMode;
 import com.comphenix.protocol.wrappers.EnumWrappers.PlayerInfoAction;
 import com.comphenix.protocol.wrappers.PlayerInfoData;
-import com.comphenix.protocol.wrappers.WrappedChatComponent;
 import com.comphenix.protocol.wrappers.WrappedGameProfile;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
 import com.keenant.tabbed.Tabbed;
+import com.keenant.tabbed.item.AnimatedTabItem;
+import com.keenant.tabbed.item.AnimatedTabItem.Frame;
+import com.keenant.tabbed.item.ObservableTabItem;
 import com.keenant.tabbed.item.TabItem;
-import com.keenant.tabbed.util.Packets;
+import com.keenant.tabbed.item.TabItemListener;
+import com.keenant.tabbed.util.ChatComponents;
+import com.keenant.tabbed.util.ColumnWidth;
+import com.keenant.tabbed.util.Pings;
 import com.keenant.tabbed.util.Skin;
 import com.keenant.tabbed.util.Skins;
+import com.keenant.tabbed.util.TabEvents;
+import com.keenant.tabbed.util.TabEvents.Timing;
 import lombok.Getter;
 import lombok.ToString;
 import org.bukkit.entity.Player;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import java.util.Map.Entry;
 import java.util.logging.Level;
 
 /**
  * A simple implementation of a custom tab list that supports batch updates.
+ * Changes are sent on the next flush of {@link Tabbed}, see {@link Tabbed#setFlushInterval(int)}.
+ *
+ * Like Bukkit, it must be changed from the main thread, except through the queue methods
+ * ({@link #queueSet(int, TabItem)} and the like) which are safe to call from any thread.
  */
-@ToString(exclude = "tabbed")
+@ToString(exclude = {"slotListeners", "mutations", "mutationsQueued"})
 public class SimpleTabList extends TitledTabList implements CustomTabList {
     public static int MAXIMUM_ITEMS = 4 * 20; // client maximum is 4x20 (4 columns, 20 rows)
 
-    protected final Tabbed tabbed;
-    protected final Map<Integer,TabItem> items;
+    protected final TabSlots items;
     private final int maxItems;
-    private final int minColumnWidth;
-    private final int maxColumnWidth;
+    private final ColumnWidth columnWidth;
 
     @Getter boolean batchEnabled;
-    private final Map<Integer,TabItem> clientItems;
-
-    private static final Map<Skin, Map<Integer, WrappedGameProfile>> PROFILE_INDEX_CACHE = new HashMap<>();
+    @Getter private boolean quantizedPing;
+    private final LongAdder suppressedPingUpdates; // latency updates not sent because the bars didn't change
+    protected final TabSlots clientItems; // what the client currently sees, as snapshots
+    private final BitSet dirty; // indexes that may differ from what the client sees
+    private TabItemListener[] slotListeners; // marks an index dirty when its observable item changes
+    private final Queue<Mutation> mutations; // changes from any thread, applied by Tabbed on the main thread
+    private final AtomicBoolean mutationsQueued; // true while this tab list waits for Tabbed to apply its mutations
+    private volatile boolean disabled;
+
+    public static final int DEFAULT_PROFILE_CACHE_SIZE = 256;
+
+    private static volatile SlotIdentities slotIdentities = new SlotIdentities("", MAXIMUM_ITEMS);
+
+    // game profiles by skin then index, least recently used skins are dropped first
+    private static volatile LoadingCache<Skin,AtomicReferenceArray<WrappedGameProfile>> profileCache = newProfileCache(DEFAULT_PROFILE_CACHE_SIZE);
+
+    // player info of animation frames by frame then index, dropped with the frame
+    private static final LoadingCache<Frame,AtomicReferenceArray<FrameData>> frameCache = CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<Frame,AtomicReferenceArray<FrameData>>() {
+        @Override
+        public AtomicReferenceArray<FrameData> load(Frame frame) {
+            return new AtomicReferenceArray<>(MAXIMUM_ITEMS);
+        }
+    });
 
     public SimpleTabList(Tabbed tabbed, Player player, int maxItems, int minColumnWidth, int maxColumnWidth) {
-        super(player);
+        super(tabbed, player);
         Preconditions.checkArgument(maxItems <= MAXIMUM_ITEMS, "maxItems cannot exceed client maximum of " + MAXIMUM_ITEMS);
         Preconditions.checkArgument(minColumnWidth <= maxColumnWidth || maxColumnWidth < 0, "minColumnWidth cannot be greater than maxColumnWidth");
 
-        this.tabbed = tabbed;
         this.maxItems = maxItems < 0 ? MAXIMUM_ITEMS : maxItems;
-        this.minColumnWidth = minColumnWidth;
-        this.maxColumnWidth = maxColumnWidth;
-        this.clientItems = new HashMap<>();
-        this.items = new HashMap<>();
+        this.columnWidth = ColumnWidth.of(minColumnWidth, maxColumnWidth);
+        this.clientItems = new TabSlots(MAXIMUM_ITEMS);
+        this.items = new TabSlots(MAXIMUM_ITEMS);
+        this.dirty = new BitSet(MAXIMUM_ITEMS);
+        this.mutations = new ConcurrentLinkedQueue<>();
+        this.mutationsQueued = new AtomicBoolean();
+        this.suppressedPingUpdates = new LongAdder();
+        this.quantizedPing = tabbed.isQuantizedPing();
     }
 
     public int getMaxItems() {
@@ -63,25 +103,72 @@ public class SimpleTabList extends TitledTabList implements CustomTabList {
 
     @Override
     public SimpleTabList disable() {
+        this.disabled = true;
+        this.mutations.clear();
         super.disable();
+        // don't let items outliving this tab list hold on to it
+        for (int index = this.items.nextOccupied(0); index >= 0; index = this.items.nextOccupied(index + 1))
+            unobserve(index, this.items.get(index));
         return this;
     }
 
     /**
-     * Sends the batch update to the player and resets the batch.
+     * Sends any pending changes to the player right away.
+     */
+    public void flush() {
+        Supplier<Runnable> diff = prepareFlush(false);
+        Runnable send = diff == null ? null : diff.get();
+        if (send != null)
+            send.run();
+    }
+
+    /**
+     * Captures the pending changes on the main thread without sending them. Items are only
+     * read here, the returned task compares the captured snapshots with what the client was
+     * sent, so the tasks of different tab lists can run on different threads at the same time,
+     * see {@link Tabbed#setFlushParallelism(int)}. Nothing else may change this tab list until
+     * the task is done.
+     * @param build True to build the packets in the task as well, instead of when they are sent.
+     * @return A task returning another one that sends the changes on the main thread (or null
+     *         if there is nothing to send), or null if nothing is pending.
+     */
+    public Supplier<Runnable> prepareFlush(final boolean build) {
+        if (this.dirty.isEmpty())
+            return null;
+        final Capture capture = captureDirty();
+        return new Supplier<Runnable>() {
+            @Override
+            public Runnable get() {
+                final TabUpdate update = getUpdate(capture);
+                if (update.isEmpty())
+                    return null;
+                if (build)
+                    update.getPackets();
+                return new Runnable() {
+                    @Override
+                    public void run() {
+                        sendUpdate(update);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Sends the batch update to the player immediately and resets the batch.
      */
     public void batchUpdate() {
-        update(this.clientItems, this.items, true);
-        this.clientItems.clear();
-        this.clientItems.putAll(this.items);
+        markAllDirty();
+        flush();
     }
 
     /**
      * Reset the existing batch.
      */
     public void batchReset() {
-        this.items.clear();
-        this.items.putAll(this.clientItems);
+        for (int index = this.dirty.nextSetBit(0); index >= 0; index = this.dirty.nextSetBit(index + 1))
+            setItem(index, getSource(this.clientItems.get(index)));
+        this.dirty.clear();
     }
 
     /**
@@ -90,13 +177,23 @@ public class SimpleTabList extends TitledTabList implements CustomTabList {
      * @param batchEnabled
      */
     public void setBatchEnabled(boolean batchEnabled) {
-        if (this.batchEnabled == batchEnabled)
-            return;
         this.batchEnabled = batchEnabled;
-        this.clientItems.clear();
+    }
 
-        if (this.batchEnabled)
-            this.clientItems.putAll(this.items);
+    /**
+     * Only send ping changes when the number of bars shown by the client changes.
+     * Defaults to {@link Tabbed#isQuantizedPing()}.
+     * @param quantizedPing
+     */
+    public void setQuantizedPing(boolean quantizedPing) {
+        this.quantizedPing = quantizedPing;
+    }
+
+    /**
+     * @return The number of latency updates not sent because the ping bars didn't change.
+     */
+    public long getSuppressedPingUpdates() {
+        return this.suppressedPingUpdates.sum();
     }
 
     public void add(TabItem item) {
@@ -105,56 +202,147 @@ public class SimpleTabList extends TitledTabList implements CustomTabList {
 
     public void add(int index, TabItem item) {
         validateIndex(index);
-        Map<Integer,TabItem> current = new HashMap<>();
-        current.putAll(this.items);
-
-        Map<Integer,TabItem> map = new HashMap<>();
-        for (int i = index; i < getMaxItems(); i++) {
-            if (!contains(i))
-                break;
-            TabItem move = get(i);
-            map.put(i + 1, move);
-        }
-        map.put(index, item);
-        update(current, map);
+
+        // shift everything up to the first free index by one, dropping the last item if there is none
+        int last = Math.min(this.items.nextFree(index), getMaxItems() - 1);
+        for (int i = last; i > index; i--)
+            put(i, this.items.get(i - 1));
+        put(index, item);
+        send();
     }
 
     public TabItem set(int index, TabItem item) {
-        Map<Integer,TabItem> items = new HashMap<>(1);
-        items.put(index, item);
-        return set(items).get(index);
+        validateIndex(index);
+        TabItem previous = this.items.get(index);
+        put(index, item);
+        send();
+        return previous;
     }
 
+    /**
+     * Replaces the items at the given indexes.
+     * @param items
+     * @return The previous items at those indexes.
+     */
     public Map<Integer,TabItem> set(Map<Integer,TabItem> items) {
         for (Entry<Integer,TabItem> entry : items.entrySet())
             validateIndex(entry.getKey());
 
-        Map<Integer,TabItem> oldItems = new HashMap<>();
-        oldItems.putAll(this.items);
-        update(oldItems, items);
+        Map<Integer,TabItem> oldItems = new HashMap<>(items.size());
+        for (Entry<Integer,TabItem> entry : items.entrySet()) {
+            oldItems.put(entry.getKey(), this.items.get(entry.getKey()));
+            put(entry.getKey(), entry.getValue());
+        }
+        send();
         return oldItems;
     }
 
     public TabItem remove(int index) {
         validateIndex(index);
-        TabItem removed = this.items.remove(index);
-        update(index, removed, null);
+        TabItem removed = this.items.get(index);
+        put(index, null);
+        send();
         return removed;
     }
 
     public <T extends TabItem> T remove(T item) {
-        Iterator<Entry<Integer,TabItem>> iterator = this.items.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Entry<Integer,TabItem> entry = iterator.next();
-            if (entry.getValue().equals(item))
-                remove(entry.getKey());
+        for (int index = this.items.nextOccupied(0); index >= 0; index = this.items.nextOccupied(index + 1)) {
+            if (this.items.get(index).equals(item))
+                remove(index);
         }
         return item;
     }
 
+    /**
+     * Sets an item from any thread, it is applied on the main thread before the next flush.
+     * Only the last item queued for an index is applied. Items are only updated on the main
+     * thread, but are created on the calling thread: build them without reading the server
+     * there, like a {@link com.keenant.tabbed.item.TextTabItem} or a
+     * {@link com.keenant.tabbed.item.PlayerTabItem} (it reads its player once updated).
+     * @param index
+     * @param item
+     */
+    public void queueSet(int index, TabItem item) {
+        validateQueuedIndex(index);
+        queue(Mutation.item(index, item));
+    }
+
+    /**
+     * Sets items from any thread, see {@link #queueSet(int, TabItem)}.
+     * @param items
+     */
+    public void queueSet(Map<Integer,TabItem> items) {
+        for (Entry<Integer,TabItem> entry : items.entrySet())
+            validateQueuedIndex(entry.getKey());
+        for (Entry<Integer,TabItem> entry : items.entrySet())
+            queue(Mutation.item(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Removes an item from any thread, see {@link #queueSet(int, TabItem)}.
+     * @param index
+     */
+    public void queueRemove(int index) {
+        queueSet(index, null);
+    }
+
+    /**
+     * Sets the header and footer from any thread, it is applied on the main thread before
+     * the next flush. Only the last header and footer queued are applied.
+     * @param header
+     * @param footer
+     */
+    public void queueHeaderFooter(String header, String footer) {
+        queue(Mutation.headerFooter(header, footer));
+    }
+
+    private void queue(Mutation mutation) {
+        if (this.disabled)
+            return;
+        this.mutations.add(mutation);
+        if (this.mutationsQueued.compareAndSet(false, true))
+            this.tabbed.queueMutations(this);
+    }
+
+    /**
+     * Applies the changes queued from other threads, only the last change of each index is kept.
+     * Called by {@link Tabbed} on the main thread.
+     */
+    public void applyMutations() {
+        // cleared first, changes queued from now on queue this tab list again
+        this.mutationsQueued.set(false);
+        Mutation mutation = this.mutations.poll();
+        if (mutation == null || this.disabled)
+            return;
+
+        TabItem[] items = new TabItem[MAXIMUM_ITEMS];
+        BitSet indexes = new BitSet(MAXIMUM_ITEMS);
+        Mutation headerFooter = null;
+        for (; mutation != null; mutation = this.mutations.poll()) {
+            if (mutation.headerFooter) {
+                headerFooter = mutation;
+            } else {
+                items[mutation.index] = mutation.item;
+                indexes.set(mutation.index);
+            }
+        }
+
+        Map<Integer,TabItem> changed = new HashMap<>(indexes.cardinality());
+        for (int index = indexes.nextSetBit(0); index >= 0; index = indexes.nextSetBit(index + 1)) {
+            if (items[index] == null)
+                remove(index);
+            else
+                changed.put(index, items[index]);
+        }
+        if (!changed.isEmpty())
+            set(changed);
+        if (headerFooter != null)
+            setHeaderFooter(headerFooter.header, headerFooter.footer);
+    }
+
     public boolean contains(int index) {
         validateIndex(index);
-        return this.items.containsKey(index);
+        return this.items.contains(index);
     }
 
     public TabItem get(int index) {
@@ -162,153 +350,382 @@ public class SimpleTabList extends TitledTabList implements CustomTabList {
         return this.items.get(index);
     }
 
+    /**
+     * Checks for updates to the tab items and then sends packets if necessary.
+     * Observable items already mark themselves as changed, so only the other items are checked.
+     */
     public void update() {
-        update(this.items, this.items);
+        for (int index = this.items.nextOccupied(0); index >= 0; index = this.items.nextOccupied(index + 1)) {
+            if (!(this.items.get(index) instanceof ObservableTabItem))
+                this.dirty.set(index);
+        }
+        send();
     }
 
     public void update(int index) {
-        Map<Integer,TabItem> map = new HashMap<>();
-        map.put(index, get(index));
-        update(index, get(index), get(index));
+        if (index >= 0 && index < getMaxItems())
+            this.dirty.set(index);
+        send();
     }
 
     public int getNextIndex() {
-        for (int index = 0; index < getMaxItems(); index++) {
-            if (!contains(index))
-                return index;
-        }
-        // tablist is full
-        return -1;
-    }
-
-    protected void update(int index, TabItem oldItem, TabItem newItem) {
-        Map<Integer,TabItem> oldItems = new HashMap<>(1);
-        oldItems.put(index, oldItem);
-
-        Map<Integer,TabItem> newItems = new HashMap<>(1);
-        newItems.put(index, newItem);
-
-        update(oldItems, newItems);
-    }
-
-    protected void update(Map<Integer,TabItem> oldItems, Map<Integer,TabItem> items) {
-        update(oldItems, items, false);
+        int index = this.items.nextFree(0);
+        // -1 if the tablist is full
+        return index < getMaxItems() ? index : -1;
     }
 
     private void validateIndex(int index) {
         Preconditions.checkArgument(index > 0 || index < getMaxItems(), "index not in allowed range");
     }
 
+    // queued changes are applied later on the main thread, a bad index has to fail on the caller's thread
+    private void validateQueuedIndex(int index) {
+        Preconditions.checkArgument(index >= 0 && index < getMaxItems(), "index not in allowed range");
+    }
+
     private boolean put(int index, TabItem item) {
         if (index < 0 || index >= getMaxItems())
             return false;
-        if (item == null) {
-            this.items.remove(index);
-            return true;
-        }
-        this.items.put(index, item);
+        setItem(index, item);
+        this.dirty.set(index);
         return true;
     }
 
-    private Map<Integer,TabItem> putAll(Map<Integer,TabItem> items) {
-        HashMap<Integer,TabItem> result = new HashMap<>(items.size());
-        for (Entry<Integer,TabItem> entry : items.entrySet())
-            if (put(entry.getKey(), entry.getValue()))
-                result.put(entry.getKey(), entry.getValue());
-        return result;
+    private void setItem(int index, TabItem item) {
+        TabItem previous = this.items.set(index, item);
+        if (previous != item) {
+            unobserve(index, previous);
+            if (item instanceof ObservableTabItem)
+                ((ObservableTabItem) item).addListener(getSlotListener(index));
+            if (item instanceof AnimatedTabItem)
+                this.tabbed.getFrameClock().add((AnimatedTabItem) item);
+        }
     }
 
-    private void update(Map<Integer,TabItem> oldItems, Map<Integer,TabItem> items, boolean isBatch) {
-        if (this.batchEnabled && !isBatch) {
-            this.items.putAll(items);
-            return;
+    private void unobserve(int index, TabItem item) {
+        if (item instanceof ObservableTabItem)
+            ((ObservableTabItem) item).removeListener(getSlotListener(index));
+    }
+
+    private TabItemListener getSlotListener(final int index) {
+        if (this.slotListeners == null)
+            this.slotListeners = new TabItemListener[MAXIMUM_ITEMS];
+        if (this.slotListeners[index] == null) {
+            this.slotListeners[index] = new TabItemListener() {
+                @Override
+                public void onChange(TabItem item, Property property) {
+                    update(index);
+                }
+            };
         }
+        return this.slotListeners[index];
+    }
 
-        Map<Integer,TabItem> newItems = putAll(items);
-        Packets.send(this.player, getUpdate(oldItems, newItems));
+    private void markAllDirty() {
+        for (int index = this.items.nextOccupied(0); index >= 0; index = this.items.nextOccupied(index + 1))
+            this.dirty.set(index);
     }
 
-    private List<PacketContainer> getUpdate(Map<Integer,TabItem> oldItems, Map<Integer,TabItem> newItems) {
-        List<PlayerInfoData> removePlayer = new ArrayList<>();
-        List<PlayerInfoData> addPlayer = new ArrayList<>();
-        List<PlayerInfoData> displayChanged = new ArrayList<>();
-        List<PlayerInfoData> pingUpdated = new ArrayList<>();
+    /**
+     * Queues this tab list for the next flush, or flushes it now if {@link Tabbed} isn't scheduling flushes.
+     */
+    protected void send() {
+        if (this.batchEnabled)
+            return;
+        if (this.tabbed.isFlushScheduled())
+            this.tabbed.markDirty(this);
+        else
+            flush();
+    }
 
-        for (Entry<Integer, TabItem> entry : newItems.entrySet()) {
-            int index = entry.getKey();
-            TabItem oldItem = oldItems.get(index);
-            TabItem newItem = entry.getValue();
+    /**
+     * Sends an update to the player.
+     * @param update
+     */
+    protected void sendUpdate(TabUpdate update) {
+        this.tabbed.sendPackets(this.player, update, null);
+    }
 
-            if (newItem == null && oldItem != null) { // TabItem has been removed.
-                removePlayer.add(getPlayerInfoData(index, oldItem));
-                continue;
-            }
+    /**
+     * Captures what the client should see at every dirty index, and marks them as clean.
+     * @return
+     */
+    Capture captureDirty() {
+        return Capture.of(this.dirty, this.items, this.clientItems);
+    }
 
-            boolean skinChanged = oldItem == null || newItem.updateSkin() || !newItem.getSkin().equals(oldItem.getSkin());
-            boolean textChanged = oldItem == null || newItem.updateText() || !newItem.getText().equals(oldItem.getText());
-            boolean pingChanged = oldItem == null || newItem.updatePing() || oldItem.getPing() != newItem.getPing();
+    /**
+     * Computes the changes needed to bring the captured indexes of the client up to date,
+     * and marks them as sent. Reads no item, see {@link #prepareFlush(boolean)}.
+     * @param capture
+     * @return
+     */
+    TabUpdate getUpdate(Capture capture) {
+        Timing timing = TabEvents.beginDiff();
+        TabUpdate update = new TabUpdate(this);
+        for (int i = 0; i < capture.indexes.length; i++) {
+            int index = capture.indexes[i];
+            this.clientItems.set(index, diff(index, this.clientItems.get(index), capture.items[i], update));
+        }
+        timing.end(this.player, capture.indexes.length, update.getEntryCount());
+        return update;
+    }
 
-            if (skinChanged) {
-                if (oldItem != null)
-                    removePlayer.add(getPlayerInfoData(index, oldItem));
-                addPlayer.add(getPlayerInfoData(index, newItem));
-            } else if (pingChanged) {
-                pingUpdated.add(getPlayerInfoData(index, newItem));
-            }
+    /**
+     * Adds the changes needed to replace what the client sees at an index to an update.
+     * Both items are snapshots, see {@link #snapshot(TabItem, TabItem)}.
+     * @param index
+     * @param oldItem What the client sees, or null.
+     * @param newItem What the client should see, or null.
+     * @param update
+     * @return What the client sees once the update is sent.
+     */
+    protected TabItem diff(int index, TabItem oldItem, TabItem newItem, TabUpdate update) {
+        if (newItem == null) {
+            if (oldItem != null) // TabItem has been removed.
+                update.add(PlayerInfoAction.REMOVE_PLAYER, index, oldItem);
+            return null;
+        }
+        if (newItem == oldItem)
+            return oldItem;
+
+        boolean skinChanged = oldItem == null || !Objects.equals(newItem.getSkin(), oldItem.getSkin());
+        boolean textChanged = oldItem == null || !Objects.equals(newItem.getText(), oldItem.getText());
+        boolean pingChanged = oldItem == null || newItem.getPing() != oldItem.getPing();
+
+        if (pingChanged && !skinChanged && this.quantizedPing && Pings.getBars(oldItem.getPing()) == Pings.getBars(newItem.getPing())) {
+            pingChanged = false;
+            this.suppressedPingUpdates.increment();
+            // the client keeps the ping it has
+            if (!textChanged && getSource(oldItem) == getSource(newItem))
+                return oldItem;
+            newItem = new SentItem(getSource(newItem), newItem.getText(), oldItem.getPing(), newItem.getSkin());
+        }
 
-            if (textChanged)
-                displayChanged.add(getPlayerInfoData(index, newItem));
+        if (skinChanged) {
+            if (oldItem != null)
+                update.add(PlayerInfoAction.REMOVE_PLAYER, index, oldItem);
+            update.add(PlayerInfoAction.ADD_PLAYER, index, newItem);
+        } else if (pingChanged) {
+            update.add(PlayerInfoAction.UPDATE_LATENCY, index, newItem);
         }
 
-        List<PacketContainer> result = new ArrayList<>(4);
+        if (textChanged)
+            update.add(PlayerInfoAction.UPDATE_DISPLAY_NAME, index, newItem);
+        return newItem;
+    }
 
-        if (removePlayer.size() > 0 || addPlayer.size() > 0) {
-            result.add(Packets.getPacket(PlayerInfoAction.REMOVE_PLAYER, removePlayer));
-            result.add(Packets.getPacket(PlayerInfoAction.ADD_PLAYER, addPlayer));
-        }
-        if (displayChanged.size() > 0)
-            result.add(Packets.getPacket(PlayerInfoAction.UPDATE_DISPLAY_NAME, displayChanged));
-        if (pingUpdated.size() > 0)
-            result.add(Packets.getPacket(PlayerInfoAction.UPDATE_LATENCY, pingUpdated));
+    /**
+     * Captures what the client should be sent for an item, on the main thread. The item is given
+     * a chance to update first, whether it changed is found by comparing with what the client was sent.
+     * @param item
+     * @param sent What the client was sent at the same index, or null.
+     * @return The current frame of an animated item, a {@link SentItem} of any other item (the sent
+     *         one if nothing changed), or null.
+     */
+    static TabItem snapshot(TabItem item, TabItem sent) {
+        if (item == null || item instanceof Frame || item instanceof SentItem)
+            return item;
+        if (item instanceof AnimatedTabItem)
+            return ((AnimatedTabItem) item).getCurrentFrame();
+        item.updateSkin();
+        item.updateText();
+        item.updatePing();
+        String text = item.getText();
+        int ping = item.getPing();
+        Skin skin = item.getSkin();
+        if (sent instanceof SentItem && ((SentItem) sent).getSource() == item && Objects.equals(sent.getText(), text)
+                && sent.getPing() == ping && Objects.equals(sent.getSkin(), skin))
+            return sent;
+        return new SentItem(item, text, ping, skin);
+    }
 
-        return result;
+    /**
+     * Gets the item something shown to the client came from.
+     * @param shown
+     * @return The animated item of a frame, the item of a {@link SentItem}, or the item itself.
+     */
+    static TabItem getSource(TabItem shown) {
+        if (shown instanceof Frame)
+            return ((Frame) shown).getOwner();
+        return shown instanceof SentItem ? ((SentItem) shown).getSource() : shown;
     }
 
-    private PlayerInfoData getPlayerInfoData(int index, TabItem item) {
-        WrappedGameProfile profile = getGameProfile(index, item);
-        return getPlayerInfoData(profile, item.getPing(), item.getText());
+    /**
+     * Gets the player info of an animation frame at an index, it is built once and shared
+     * by every tab list with the same column width. Safe to call from any thread.
+     * @param index
+     * @param frame
+     * @return
+     */
+    PlayerInfoData getPlayerInfoData(int index, Frame frame) {
+        SlotIdentities identities = slotIdentities;
+        AtomicReferenceArray<FrameData> built = frameCache.getUnchecked(frame);
+        FrameData cached = built.get(index);
+        if (cached != null && cached.columnWidth == this.columnWidth && cached.identities == identities)
+            return cached.data;
+
+        PlayerInfoData data = getPlayerInfoData(getGameProfile(index, frame.getSkin(), identities), frame.getPing(), frame.getText());
+        built.set(index, new FrameData(this.columnWidth, identities, data));
+        return data;
+    }
+
+    /**
+     * Creates the player info of a tab item at an index. Safe to call from any thread.
+     * @param index
+     * @param text
+     * @param ping
+     * @param skin
+     * @return
+     */
+    PlayerInfoData getPlayerInfoData(int index, String text, int ping, Skin skin) {
+        WrappedGameProfile profile = getGameProfile(index, skin, slotIdentities);
+        return getPlayerInfoData(profile, ping, text);
     }
 
     private PlayerInfoData getPlayerInfoData(WrappedGameProfile profile, int ping, String displayName) {
-        if (displayName != null) {
-            // min width
-            while (displayName.length() < this.minColumnWidth)
-                displayName += " ";
-
-            // max width
-            if (this.maxColumnWidth > 0)
-                while (displayName.length() > this.maxColumnWidth)
-                    displayName = displayName.substring(0, displayName.length() - 1);
+        if (displayName != null)
+            displayName = this.columnWidth.apply(displayName);
+
+        return new PlayerInfoData(profile, ping, NativeGameMode.SURVIVAL, displayName == null ? null : ChatComponents.fromText(displayName));
+    }
+
+    private WrappedGameProfile getGameProfile(int index, Skin skin, SlotIdentities identities) {
+        // Cached by skins, so if you change the skins a lot, it still works while being efficient.
+        AtomicReferenceArray<WrappedGameProfile> profiles = profileCache.getUnchecked(skin);
+        WrappedGameProfile profile = profiles.get(index);
+        if (profile != null)
+            return profile;
+
+        // Profile is not cached, generate and cache one.
+        profile = new WrappedGameProfile(identities.getUuid(index), identities.getName(index));
+        profile.getProperties().put(Skin.TEXTURE_KEY, skin.getProperty());
+        return profiles.compareAndSet(index, null, profile) ? profile : profiles.get(index);
+    }
+
+    /**
+     * Sets how many skins game profiles are cached for, the least recently used skin is
+     * dropped first. The cache and its stats are cleared.
+     * @param skins
+     */
+    public static void setProfileCacheSize(int skins) {
+        Preconditions.checkArgument(skins > 0, "skins must be positive");
+        profileCache = newProfileCache(skins);
+    }
+
+    /**
+     * Sets what the fake player names of tab items start with, so they don't collide with
+     * another plugin's. Only set it before any tab list is shown. Clears the profile cache.
+     * @param prefix At most 4 characters.
+     */
+    public static void setProfileNamePrefix(String prefix) {
+        slotIdentities = new SlotIdentities(prefix, MAXIMUM_ITEMS);
+        profileCache.invalidateAll();
+    }
+
+    /**
+     * @return What the fake player names of tab items start with.
+     */
+    public static String getProfileNamePrefix() {
+        return slotIdentities.getPrefix();
+    }
+
+    /**
+     * Gets the hits, misses and evictions of the game profile cache, counted per skin.
+     * @return
+     */
+    public static CacheStats getProfileCacheStats() {
+        return profileCache.stats();
+    }
+
+    /**
+     * @return The number of skins game profiles are cached for.
+     */
+    public static long getProfileCacheSize() {
+        return profileCache.size();
+    }
+
+    private static LoadingCache<Skin,AtomicReferenceArray<WrappedGameProfile>> newProfileCache(int skins) {
+        return CacheBuilder.newBuilder().maximumSize(skins).recordStats().build(new CacheLoader<Skin,AtomicReferenceArray<WrappedGameProfile>>() {
+            @Override
+            public AtomicReferenceArray<WrappedGameProfile> load(Skin skin) {
+                return new AtomicReferenceArray<>(MAXIMUM_ITEMS);
+            }
+        });
+    }
+
+    /**
+     * Snapshots of what the client should see at some indexes, taken on the main thread.
+     */
+    static final class Capture {
+        final int[] indexes;
+        final TabItem[] items; // the snapshot of each of the indexes
+
+        private Capture(int[] indexes, TabItem[] items) {
+            this.indexes = indexes;
+            this.items = items;
         }
 
-        return new PlayerInfoData(profile, ping, NativeGameMode.SURVIVAL, displayName == null ? null : WrappedChatComponent.fromText(displayName));
+        /**
+         * Takes the snapshots of the items at the given indexes, see {@link #snapshot(TabItem, TabItem)},
+         * then clears the indexes.
+         * @param indexes
+         * @param items
+         * @param sent What the client was sent.
+         * @return
+         */
+        static Capture of(BitSet indexes, TabSlots items, TabSlots sent) {
+            int[] captured = new int[indexes.cardinality()];
+            TabItem[] snapshots = new TabItem[captured.length];
+            int i = 0;
+            for (int index = indexes.nextSetBit(0); index >= 0; index = indexes.nextSetBit(index + 1), i++) {
+                captured[i] = index;
+                snapshots[i] = snapshot(items.get(index), sent.get(index));
+            }
+            indexes.clear();
+            return new Capture(captured, snapshots);
+        }
     }
 
-    private WrappedGameProfile getGameProfile(int index, TabItem item) {
-        Skin skin = item.getSkin();
-        if (!PROFILE_INDEX_CACHE.containsKey(skin)) // Cached by skins, so if you change the skins a lot, it still works while being efficient.
-            PROFILE_INDEX_CACHE.put(skin, new HashMap<>());
-        Map<Integer, WrappedGameProfile> indexCache = PROFILE_INDEX_CACHE.get(skin);
+    /**
+     * A change queued from any thread, of the item at an index or of the header and footer.
+     */
+    private static class Mutation {
+        private final boolean headerFooter;
+        private final int index;
+        private final TabItem item;
+        private final String header;
+        private final String footer;
+
+        private Mutation(boolean headerFooter, int index, TabItem item, String header, String footer) {
+            this.headerFooter = headerFooter;
+            this.index = index;
+            this.item = item;
+            this.header = header;
+            this.footer = footer;
+        }
 
-        if (!indexCache.containsKey(index)) { // Profile is not cached, generate and cache one.
-            String name = String.format("%03d", index) + "|UpdateMC"; // Starts with 00 so they are sorted in alphabetical order and appear in the right order.
-            UUID uuid = UUID.nameUUIDFromBytes(name.getBytes());
+        private static Mutation item(int index, TabItem item) {
+            return new Mutation(false, index, item, null, null);
+        }
 
-            WrappedGameProfile profile = new WrappedGameProfile(uuid, name); // Create a profile to cache by skin and index.
-            profile.getProperties().put(Skin.TEXTURE_KEY, item.getSkin().getProperty());
-            indexCache.put(index, profile); // Cache the profile.
+        private static Mutation headerFooter(String header, String footer) {
+            return new Mutation(true, -1, null, header, footer);
         }
+    }
 
-        return indexCache.get(index);
+    /**
+     * Player info of an animation frame and what it was built for.
+     */
+    private static final class FrameData {
+        private final ColumnWidth columnWidth;
+        private final SlotIdentities identities;
+        private final PlayerInfoData data;
+
+        private FrameData(ColumnWidth columnWidth, SlotIdentities identities, PlayerInfoData data) {
+            this.columnWidth = columnWidth;
+            this.identities = identities;
+            this.data = data;
+        }
     }
 }
@@ -0,0 +1,41 @@
+package com.keenant.tabbed.tablist;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * The fake player name and uuid of every tab list index, computed once.
+ *
+ * Names are the prefix, the index padded to three digits then "|UpdateMC". The client
+ * sorts entries by name, so the index is what orders them.
+ */
+class SlotIdentities {
+    private static final String SUFFIX = "|UpdateMC";
+    private static final int MAX_NAME_LENGTH = 16;
+
+    @Getter private final String prefix;
+    private final String[] names;
+    private final UUID[] uuids;
+
+    SlotIdentities(String prefix, int size) {
+        Preconditions.checkArgument(prefix.length() + 3 + SUFFIX.length() <= MAX_NAME_LENGTH, "prefix is too long");
+        this.prefix = prefix;
+        this.names = new String[size];
+        this.uuids = new UUID[size];
+        for (int index = 0; index < size; index++) {
+            this.names[index] = prefix + String.format("%03d", index) + SUFFIX;
+            this.uuids[index] = UUID.nameUUIDFromBytes(this.names[index].getBytes(Charsets.UTF_8));
+        }
+    }
+
+    String getName(int index) {
+        return this.names[index];
+    }
+
+    UUID getUuid(int index) {
+        return this.uuids[index];
+    }
+}
@@ -0,0 +1,104 @@
+package com.keenant.tabbed.tablist;
+
+import com.keenant.tabbed.item.TabItem;
+import lombok.ToString;
+
+import java.util.BitSet;
+
+/**
+ * Fixed size storage of tab items by index, an array with an occupancy bitmap.
+ * Indexes outside of the capacity are treated as empty.
+ */
+@ToString
+public class TabSlots {
+    private final TabItem[] items;
+    private final BitSet occupied;
+
+    public TabSlots(int capacity) {
+        this.items = new TabItem[capacity];
+        this.occupied = new BitSet(capacity);
+    }
+
+    /**
+     * @return The number of indexes this can hold.
+     */
+    public int getCapacity() {
+        return this.items.length;
+    }
+
+    /**
+     * @return The number of items present.
+     */
+    public int size() {
+        return this.occupied.cardinality();
+    }
+
+    /**
+     * Gets the item at the given index.
+     * @param index
+     * @return The item or null if it isn't present.
+     */
+    public TabItem get(int index) {
+        if (index < 0 || index >= this.items.length)
+            return null;
+        return this.items[index];
+    }
+
+    /**
+     * Checks if there is an item at the given index.
+     * @param index
+     * @return
+     */
+    public boolean contains(int index) {
+        return index >= 0 && this.occupied.get(index);
+    }
+
+    /**
+     * Sets (or removes, when null) the item at the given index.
+     * @param index
+     * @param item
+     * @return The previous item or null if it wasn't present.
+     */
+    public TabItem set(int index, TabItem item) {
+        TabItem previous = this.items[index];
+        this.items[index] = item;
+        this.occupied.set(index, item != null);
+        return previous;
+    }
+
+    /**
+     * Removes the item at the given index.
+     * @param index
+     * @return The item removed or null if it wasn't present.
+     */
+    public TabItem remove(int index) {
+        return set(index, null);
+    }
+
+    /**
+     * Gets the first index holding an item, starting at (and including) the given index.
+     * @param fromIndex
+     * @return The index or -1 if there is none.
+     */
+    public int nextOccupied(int fromIndex) {
+        return this.occupied.nextSetBit(fromIndex);
+    }
+
+    /**
+     * Gets the first index not holding an item, starting at (and including) the given index.
+     * @param fromIndex
+     * @return The index, which may be at or beyond the capacity if all are taken.
+     */
+    public int nextFree(int fromIndex) {
+        return this.occupied.nextClearBit(fromIndex);
+    }
+
+    /**
+     * Removes every item.
+     */
+    public void clear() {
+        for (int index = nextOccupied(0); index >= 0; index = nextOccupied(index + 1))
+            this.items[index] = null;
+        this.occupied.clear();
+    }
+}
@@ -0,0 +1,272 @@
+package com.keenant.tabbed.tablist;
+
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.wrappers.EnumWrappers.PlayerInfoAction;
+import com.comphenix.protocol.wrappers.PlayerInfoData;
+import com.keenant.tabbed.item.AnimatedTabItem;
+import com.keenant.tabbed.item.AnimatedTabItem.Frame;
+import com.keenant.tabbed.item.TabItem;
+import com.keenant.tabbed.util.Packets;
+import com.keenant.tabbed.util.Skin;
+import com.keenant.tabbed.util.TabEvents;
+import com.keenant.tabbed.util.TabEvents.Timing;
+import com.keenant.tabbed.util.TabMetrics;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The player info changes needed to bring a client up to date, by action and tab list index.
+ *
+ * The text, ping and skin of the items are captured when they are added, so the update
+ * doesn't change afterwards and its packets can be built on any thread. The packets are
+ * only built once, so the same update can be sent to any number of players.
+ *
+ * Only the packets needed are planned: display name and latency changes of an entry being
+ * added are left out, the added entry has them already, and actions without entries have no packet.
+ */
+public class TabUpdate {
+    private final SimpleTabList tabList;
+    private final String[][] texts;
+    private final int[][] pings;
+    private final Skin[][] skins;
+    private final Frame[][] frames; // frames of animated items, their player info is shared
+    private final BitSet[] indexes;
+    private List<PacketContainer> packets;
+
+    public TabUpdate(SimpleTabList tabList) {
+        int actions = PlayerInfoAction.values().length;
+        this.tabList = tabList;
+        this.texts = new String[actions][];
+        this.pings = new int[actions][];
+        this.skins = new Skin[actions][];
+        this.frames = new Frame[actions][];
+        this.indexes = new BitSet[actions];
+    }
+
+    /**
+     * Adds a change for a tab list index, using the current text, ping and skin of the item.
+     * @param action
+     * @param index
+     * @param item
+     */
+    public void add(PlayerInfoAction action, int index, TabItem item) {
+        if (action == PlayerInfoAction.UPDATE_DISPLAY_NAME || action == PlayerInfoAction.UPDATE_LATENCY) {
+            if (contains(PlayerInfoAction.ADD_PLAYER, index))
+                return;
+        } else if (action == PlayerInfoAction.ADD_PLAYER) {
+            remove(PlayerInfoAction.UPDATE_DISPLAY_NAME, index);
+            remove(PlayerInfoAction.UPDATE_LATENCY, index);
+        }
+
+        int ordinal = action.ordinal();
+        if (this.indexes[ordinal] == null) {
+            this.texts[ordinal] = new String[SimpleTabList.MAXIMUM_ITEMS];
+            this.pings[ordinal] = new int[SimpleTabList.MAXIMUM_ITEMS];
+            this.skins[ordinal] = new Skin[SimpleTabList.MAXIMUM_ITEMS];
+            this.frames[ordinal] = new Frame[SimpleTabList.MAXIMUM_ITEMS];
+            this.indexes[ordinal] = new BitSet(SimpleTabList.MAXIMUM_ITEMS);
+        }
+        if (item instanceof AnimatedTabItem)
+            item = ((AnimatedTabItem) item).getCurrentFrame();
+        this.frames[ordinal][index] = item instanceof Frame ? (Frame) item : null;
+        this.texts[ordinal][index] = item.getText();
+        this.pings[ordinal][index] = item.getPing();
+        this.skins[ordinal][index] = item.getSkin();
+        this.indexes[ordinal].set(index);
+    }
+
+    /**
+     * @return True if there is nothing to send.
+     */
+    public boolean isEmpty() {
+        for (BitSet set : this.indexes) {
+            if (set != null && !set.isEmpty())
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of entries for an action.
+     * @param action
+     * @return
+     */
+    public int size(PlayerInfoAction action) {
+        BitSet set = this.indexes[action.ordinal()];
+        return set == null ? 0 : set.cardinality();
+    }
+
+    /**
+     * Gets the number of entries for an action, except the ones at the given indexes.
+     * @param action
+     * @param excluded Indexes to leave out, or null.
+     * @return
+     */
+    public int size(PlayerInfoAction action, BitSet excluded) {
+        BitSet set = this.indexes[action.ordinal()];
+        if (set == null || excluded == null || !set.intersects(excluded))
+            return size(action);
+        BitSet included = (BitSet) set.clone();
+        included.andNot(excluded);
+        return included.cardinality();
+    }
+
+    /**
+     * Estimates the size of the entries for an action, see {@link TabMetrics#getEntrySize(PlayerInfoAction, String, Skin)}.
+     * @param action
+     * @param excluded Indexes to leave out, or null.
+     * @return
+     */
+    public long getEstimatedSize(PlayerInfoAction action, BitSet excluded) {
+        int ordinal = action.ordinal();
+        BitSet set = this.indexes[ordinal];
+        if (set == null)
+            return 0;
+
+        long size = 0;
+        for (int index = set.nextSetBit(0); index >= 0; index = set.nextSetBit(index + 1)) {
+            if (excluded == null || !excluded.get(index))
+                size += TabMetrics.getEntrySize(action, this.texts[ordinal][index], this.skins[ordinal][index]);
+        }
+        return size;
+    }
+
+    /**
+     * @return The number of packets planned.
+     */
+    public int getPacketCount() {
+        int count = 0;
+        for (BitSet set : this.indexes) {
+            if (set != null && !set.isEmpty())
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return The number of player info entries planned, over all packets.
+     */
+    public int getEntryCount() {
+        int count = 0;
+        for (BitSet set : this.indexes) {
+            if (set != null)
+                count += set.cardinality();
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of tab list indexes changed by any action.
+     * @param excluded Indexes to leave out, or null.
+     * @return
+     */
+    public int getSlotCount(BitSet excluded) {
+        int count = 0;
+        for (int index = nextIndex(0, excluded); index >= 0; index = nextIndex(index + 1, excluded))
+            count++;
+        return count;
+    }
+
+    private int nextIndex(int from, BitSet excluded) {
+        int next = -1;
+        for (BitSet set : this.indexes) {
+            if (set == null)
+                continue;
+            int index = excluded == null ? set.nextSetBit(from) : nextIncluded(set, from, excluded);
+            if (index >= 0 && (next < 0 || index < next))
+                next = index;
+        }
+        return next;
+    }
+
+    private static int nextIncluded(BitSet set, int from, BitSet excluded) {
+        int index = set.nextSetBit(from);
+        while (index >= 0 && excluded.get(index))
+            index = set.nextSetBit(index + 1);
+        return index;
+    }
+
+    private boolean contains(PlayerInfoAction action, int index) {
+        BitSet set = this.indexes[action.ordinal()];
+        return set != null && set.get(index);
+    }
+
+    private void remove(PlayerInfoAction action, int index) {
+        BitSet set = this.indexes[action.ordinal()];
+        if (set != null)
+            set.clear(index);
+    }
+
+    /**
+     * Gets the packets for every change, they are built on the first call only.
+     * @return
+     */
+    public synchronized List<PacketContainer> getPackets() {
+        if (this.packets == null)
+            this.packets = Collections.unmodifiableList(buildPackets(null));
+        return this.packets;
+    }
+
+    /**
+     * Gets the packets for every change except the ones at the given indexes.
+     * @param excluded
+     * @return
+     */
+    public List<PacketContainer> getPackets(BitSet excluded) {
+        if (excluded == null || !intersects(excluded))
+            return getPackets();
+        return buildPackets(excluded);
+    }
+
+    private boolean intersects(BitSet excluded) {
+        for (BitSet set : this.indexes) {
+            if (set != null && set.intersects(excluded))
+                return true;
+        }
+        return false;
+    }
+
+    private List<PacketContainer> buildPackets(BitSet excluded) {
+        Timing timing = TabEvents.beginBuild();
+        List<PlayerInfoData> removePlayer = getData(PlayerInfoAction.REMOVE_PLAYER, excluded);
+        List<PlayerInfoData> addPlayer = getData(PlayerInfoAction.ADD_PLAYER, excluded);
+        List<PlayerInfoData> displayChanged = getData(PlayerInfoAction.UPDATE_DISPLAY_NAME, excluded);
+        List<PlayerInfoData> pingUpdated = getData(PlayerInfoAction.UPDATE_LATENCY, excluded);
+
+        List<PacketContainer> result = new ArrayList<>(4);
+
+        if (removePlayer.size() > 0)
+            result.add(Packets.getPacket(PlayerInfoAction.REMOVE_PLAYER, removePlayer));
+        if (addPlayer.size() > 0)
+            result.add(Packets.getPacket(PlayerInfoAction.ADD_PLAYER, addPlayer));
+        if (displayChanged.size() > 0)
+            result.add(Packets.getPacket(PlayerInfoAction.UPDATE_DISPLAY_NAME, displayChanged));
+        if (pingUpdated.size() > 0)
+            result.add(Packets.getPacket(PlayerInfoAction.UPDATE_LATENCY, pingUpdated));
+
+        timing.end(this.tabList.getPlayer(), getSlotCount(excluded), removePlayer.size() + addPlayer.size() + displayChanged.size() + pingUpdated.size());
+        return result;
+    }
+
+    private List<PlayerInfoData> getData(PlayerInfoAction action, BitSet excluded) {
+        int ordinal = action.ordinal();
+        BitSet set = this.indexes[ordinal];
+        if (set == null)
+            return Collections.emptyList();
+
+        List<PlayerInfoData> result = new ArrayList<>(set.cardinality());
+        for (int index = set.nextSetBit(0); index >= 0; index = set.nextSetBit(index + 1)) {
+            if (excluded != null && excluded.get(index))
+                continue;
+            Frame frame = this.frames[ordinal][index];
+            if (frame != null)
+                result.add(this.tabList.getPlayerInfoData(index, frame));
+            else
+                result.add(this.tabList.getPlayerInfoData(index, this.texts[ordinal][index], this.pings[ordinal][index], this.skins[ordinal][index]));
+        }
+        return result;
+    }
+}
@@ -201,6 +201,28 @@ public class TableTabList extends SimpleTabList {
      * @return True if all the items fit, false if otherwise.
      */
     public boolean fill(int col1, int row1, int col2, int row2, List<TabItem> items, TableCorner startCorner, FillDirection direction) {
+        set(getFill(col1, row1, col2, row2, items, startCorner, direction));
+        return items.size() <= (col2 - col1 + 1) * (row2 - row1 + 1);
+    }
+
+    /**
+     * Fills a box with a list of tab items from any thread, see {@link #queueSet(int, TabItem)}.
+     * @param box
+     * @param items The items to fill the box with.
+     * @param startCorner Where to begin filling the box.
+     * @param direction The direction to fill the box.
+     * @return True if all the items fit, false if otherwise.
+     */
+    public boolean queueFill(TableBox box, List<TabItem> items, TableCorner startCorner, FillDirection direction) {
+        int col1 = box.getTopLeft().getColumn();
+        int row1 = box.getTopLeft().getRow();
+        int col2 = box.getBottomRight().getColumn();
+        int row2 = box.getBottomRight().getRow();
+        queueSet(getFill(col1, row1, col2, row2, items, startCorner, direction));
+        return items.size() <= (col2 - col1 + 1) * (row2 - row1 + 1);
+    }
+
+    private Map<Integer,TabItem> getFill(int col1, int row1, int col2, int row2, List<TabItem> items, TableCorner startCorner, FillDirection direction) {
         validateCell(col1, row1);
         validateCell(col2, row2);
         Preconditions.checkNotNull(items, "items can't be null");
@@ -242,8 +264,7 @@ public class TableTabList extends SimpleTabList {
         }
 
         Tabbed.log(Level.INFO, "Filling " + col1 + "," + row1 + "->" + col2 + "," + row2 + " with " + map.size() + " items");
-        set(map);
-        return !iterator.hasNext();
+        return map;
     }
 
     private void reset() {
@@ -257,11 +278,11 @@ public class TableTabList extends SimpleTabList {
         set(newItems);
     }
 
-    private int getIndex(TableCell cell) {
+    protected int getIndex(TableCell cell) {
         return getIndex(cell.getColumn(), cell.getRow());
     }
 
-    private int getIndex(int column, int row) {
+    protected int getIndex(int column, int row) {
         return row + this.rows * column;
     }
 
@@ -269,7 +290,7 @@ public class TableTabList extends SimpleTabList {
         validateCell(cell.getColumn(), cell.getRow());
     }
 
-    private void validateCell(int column, int row) {
+    protected void validateCell(int column, int row) {
         Preconditions.checkArgument(row >= 0 && row < this.rows, "row not in allowed range");
         Preconditions.checkArgument(column >= 0 && column < this.columns, "column not in allowed range");
     }
@@ -3,23 +3,32 @@ package com.keenant.tabbed.tablist;
 import com.comphenix.protocol.PacketType.Play.Server;
 import com.comphenix.protocol.ProtocolLibrary;
 import com.comphenix.protocol.events.PacketContainer;
-import com.comphenix.protocol.wrappers.WrappedChatComponent;
+import com.keenant.tabbed.Tabbed;
+import com.keenant.tabbed.util.ChatComponents;
+import com.keenant.tabbed.util.TabMetrics;
 import lombok.Getter;
 import lombok.ToString;
 import org.bukkit.entity.Player;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
 
 /**
  * A very basic tab list. It doesn't modify the items, only the header/footer.
  */
-@ToString
+@ToString(exclude = "tabbed")
 public class TitledTabList implements TabList {
+    protected final Tabbed tabbed; // null if created without one
     @Getter protected final Player player;
     @Getter private String header;
     @Getter private String footer;
 
     public TitledTabList(Player player) {
+        this(null, player);
+    }
+
+    public TitledTabList(Tabbed tabbed, Player player) {
+        this.tabbed = tabbed;
         this.player = player;
     }
 
@@ -34,19 +43,25 @@ public class TitledTabList implements TabList {
         return this;
     }
 
+    /**
+     * Sets the header and footer in one packet, nothing is sent if neither changed.
+     * @param header
+     * @param footer
+     */
     public void setHeaderFooter(String header, String footer) {
-        setHeader(header);
-        setFooter(footer);
+        if (Objects.equals(this.header, header) && Objects.equals(this.footer, footer))
+            return;
+        this.header = header;
+        this.footer = footer;
+        updateHeaderFooter();
     }
 
     public void resetHeaderFooter() {
-        resetHeader();
-        resetFooter();
+        setHeaderFooter(null, null);
     }
 
     public void setHeader(String header) {
-        this.header = header;
-        updateHeaderFooter();
+        setHeaderFooter(header, this.footer);
     }
 
     public void resetHeader() {
@@ -54,22 +69,75 @@ public class TitledTabList implements TabList {
     }
 
     public void setFooter(String footer) {
-        this.footer = footer;
-        updateHeaderFooter();
+        setHeaderFooter(this.header, footer);
     }
 
     public void resetFooter() {
         setFooter(null);
     }
 
-    private void updateHeaderFooter() {
+    /**
+     * Creates the packet holding the current header and footer.
+     * @return
+     */
+    protected PacketContainer getHeaderFooterPacket() {
+        return getHeaderFooterPacket(this.header, this.footer);
+    }
+
+    /**
+     * Creates a header and footer packet.
+     * @param header The header or null for none.
+     * @param footer The footer or null for none.
+     * @return
+     */
+    protected static PacketContainer getHeaderFooterPacket(String header, String footer) {
         PacketContainer packet = new PacketContainer(Server.PLAYER_LIST_HEADER_FOOTER);
-        packet.getChatComponents().write(0, WrappedChatComponent.fromText(this.header == null ? "" : this.header));
-        packet.getChatComponents().write(1, WrappedChatComponent.fromText(this.footer == null ? "" : this.footer));
+        packet.getChatComponents().write(0, ChatComponents.fromText(header == null ? "" : header));
+        packet.getChatComponents().write(1, ChatComponents.fromText(footer == null ? "" : footer));
+        return packet;
+    }
+
+    /**
+     * Sends a header and footer packet to the player.
+     * @param header The header in the packet.
+     * @param footer The footer in the packet.
+     * @param packet
+     */
+    protected void sendHeaderFooter(String header, String footer, PacketContainer packet) {
+        sendHeaderFooter(this.player, header, footer, packet);
+    }
+
+    /**
+     * Sends a header and footer packet to a player.
+     * @param player
+     * @param header The header in the packet.
+     * @param footer The footer in the packet.
+     * @param packet
+     */
+    protected void sendHeaderFooter(Player player, String header, String footer, PacketContainer packet) {
+        TabMetrics.recordHeaderFooter(this.tabbed == null ? null : this.tabbed.getPlugin(), player, header, footer);
         try {
-            ProtocolLibrary.getProtocolManager().sendServerPacket(this.player, packet);
+            ProtocolLibrary.getProtocolManager().sendServerPacket(player, packet);
         } catch (InvocationTargetException e) {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Shows a header and footer with an already built packet, unless they are shown already.
+     * @param header
+     * @param footer
+     * @param packet
+     */
+    void showHeaderFooter(String header, String footer, PacketContainer packet) {
+        if (Objects.equals(this.header, header) && Objects.equals(this.footer, footer))
+            return;
+        this.header = header;
+        this.footer = footer;
+        sendHeaderFooter(header, footer, packet);
+    }
+
+    private void updateHeaderFooter() {
+        sendHeaderFooter(this.header, this.footer, getHeaderFooterPacket());
+    }
 }
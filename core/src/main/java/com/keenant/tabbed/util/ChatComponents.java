@@ -0,0 +1,55 @@
+package com.keenant.tabbed.util;
+
+import com.comphenix.protocol.wrappers.WrappedChatComponent;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Chat components of tab list texts. Converting legacy color codes to a component is
+ * done once per distinct text, the components are shared by every tab list and must
+ * not be modified.
+ */
+public class ChatComponents {
+    public static final int DEFAULT_CACHE_SIZE = 2048;
+
+    private static volatile LoadingCache<String,WrappedChatComponent> cache = newCache(DEFAULT_CACHE_SIZE);
+
+    /**
+     * Gets the chat component of a text with legacy color codes. Safe to call from any thread.
+     * @param text
+     * @return
+     */
+    public static WrappedChatComponent fromText(String text) {
+        return cache.getUnchecked(text);
+    }
+
+    /**
+     * Sets how many texts are cached, the least recently used text is dropped first.
+     * The cache and its stats are cleared.
+     * @param texts
+     */
+    public static void setCacheSize(int texts) {
+        Preconditions.checkArgument(texts > 0, "texts must be positive");
+        cache = newCache(texts);
+    }
+
+    /**
+     * Gets the hits, misses and evictions of the cache, see {@link CacheStats#hitRate()}.
+     * @return
+     */
+    public static CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    private static LoadingCache<String,WrappedChatComponent> newCache(int texts) {
+        return CacheBuilder.newBuilder().maximumSize(texts).recordStats().build(new CacheLoader<String,WrappedChatComponent>() {
+            @Override
+            public WrappedChatComponent load(String text) {
+                return WrappedChatComponent.fromText(text);
+            }
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package com.keenant.tabbed.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import lombok.Getter;
+import lombok.ToString;
+import org.bukkit.ChatColor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Pads and truncates texts to a column width. Only visible characters count, color codes
+ * don't. Results are cached per distinct text, and shared by every tab list with the same widths.
+ */
+@ToString(exclude = "cache")
+public class ColumnWidth {
+    private static final int CACHE_SIZE = 1024;
+    private static final Map<String,ColumnWidth> INSTANCES = new ConcurrentHashMap<>();
+
+    @Getter private final int min;
+    @Getter private final int max;
+    private final LoadingCache<String,String> cache;
+
+    private ColumnWidth(final int min, final int max) {
+        this.min = min;
+        this.max = max;
+        this.cache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(new CacheLoader<String,String>() {
+            @Override
+            public String load(String text) {
+                return fit(text, min, max);
+            }
+        });
+    }
+
+    /**
+     * Gets the shared instance for the given widths.
+     * @param min Minimum visible characters, or -1 for none.
+     * @param max Maximum visible characters, or -1 for none.
+     * @return
+     */
+    public static ColumnWidth of(final int min, final int max) {
+        Preconditions.checkArgument(min <= max || max < 0, "min cannot be greater than max");
+        return INSTANCES.computeIfAbsent(min + ":" + max, new Function<String,ColumnWidth>() {
+            @Override
+            public ColumnWidth apply(String key) {
+                return new ColumnWidth(min, max);
+            }
+        });
+    }
+
+    /**
+     * Pads or truncates a text to this width. Safe to call from any thread.
+     * @param text
+     * @return
+     */
+    public String apply(String text) {
+        if (this.min <= 0 && this.max <= 0)
+            return text;
+        return this.cache.getUnchecked(text);
+    }
+
+    /**
+     * Pads a text with spaces to at least min visible characters, or cuts it
+     * to at most max visible characters.
+     * @param text
+     * @param min Minimum visible characters, or -1 for none.
+     * @param max Maximum visible characters, or -1 for none.
+     * @return The text itself if it already fits.
+     */
+    public static String fit(String text, int min, int max) {
+        int length = text.length();
+        int visible = 0;
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(i) == ChatColor.COLOR_CHAR && i + 1 < length) {
+                i++; // the code itself
+                continue;
+            }
+            if (max > 0 && visible == max)
+                return text.substring(0, i);
+            visible++;
+        }
+
+        if (visible >= min)
+            return text;
+
+        char[] padded = new char[length + min - visible];
+        text.getChars(0, length, padded, 0);
+        Arrays.fill(padded, length, padded.length, ' ');
+        return new String(padded);
+    }
+}
@@ -0,0 +1,130 @@
+package com.keenant.tabbed.util;
+
+import com.keenant.tabbed.util.TabEvents.SkinTiming;
+import com.keenant.tabbed.util.TabEvents.Timing;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.bukkit.entity.Player;
+
+/**
+ * The JFR events behind {@link TabEvents}. Built for Java 11 on JDK 11 or newer only, see
+ * the jfr profile of the core module, and only loaded when the runtime has jdk.jfr.
+ */
+class JfrTabEvents implements TabEvents.Recorder {
+    private static final EventType DIFF = EventType.getEventType(DiffEvent.class);
+    private static final EventType BUILD = EventType.getEventType(BuildEvent.class);
+    private static final EventType SEND = EventType.getEventType(SendEvent.class);
+    private static final EventType POLL = EventType.getEventType(PollEvent.class);
+    private static final EventType SKIN_FETCH = EventType.getEventType(SkinFetchEvent.class);
+
+    @Override
+    public boolean isAvailable() {
+        return FlightRecorder.isAvailable();
+    }
+
+    @Override
+    public Timing beginDiff() {
+        return DIFF.isEnabled() ? begin(new DiffEvent()) : TabEvents.NOOP;
+    }
+
+    @Override
+    public Timing beginBuild() {
+        return BUILD.isEnabled() ? begin(new BuildEvent()) : TabEvents.NOOP;
+    }
+
+    @Override
+    public Timing beginSend() {
+        return SEND.isEnabled() ? begin(new SendEvent()) : TabEvents.NOOP;
+    }
+
+    @Override
+    public Timing beginPoll() {
+        return POLL.isEnabled() ? begin(new PollEvent()) : TabEvents.NOOP;
+    }
+
+    @Override
+    public SkinTiming beginSkinFetch() {
+        if (!SKIN_FETCH.isEnabled())
+            return TabEvents.NOOP_SKIN;
+        SkinFetchEvent event = new SkinFetchEvent();
+        event.begin();
+        return event;
+    }
+
+    private static SlotEvent begin(SlotEvent event) {
+        event.begin();
+        return event;
+    }
+
+    @Category({"Tabbed"})
+    private static abstract class SlotEvent extends Event implements Timing {
+        @Label("Player")
+        String player;
+
+        @Label("Slots")
+        int slots;
+
+        @Label("Entries")
+        int entries;
+
+        @Override
+        public void end(Player player, int slots, int entries) {
+            if (!shouldCommit())
+                return;
+            this.player = player == null ? null : player.getName();
+            this.slots = slots;
+            this.entries = entries;
+            commit();
+        }
+    }
+
+    @Name("com.keenant.tabbed.Diff")
+    @Label("Tab List Diff")
+    @Description("Changes computed for the dirty slots of a tab list")
+    private static class DiffEvent extends SlotEvent {
+    }
+
+    @Name("com.keenant.tabbed.Build")
+    @Label("Tab List Packet Build")
+    @Description("Player info packets built for an update")
+    private static class BuildEvent extends SlotEvent {
+    }
+
+    @Name("com.keenant.tabbed.Send")
+    @Label("Tab List Send")
+    @Description("Packets of an update sent to a player")
+    private static class SendEvent extends SlotEvent {
+    }
+
+    @Name("com.keenant.tabbed.Poll")
+    @Label("Player List Name Poll")
+    @Description("Player list names checked for the default tab lists")
+    private static class PollEvent extends SlotEvent {
+    }
+
+    @Name("com.keenant.tabbed.SkinFetch")
+    @Label("Skin Fetch")
+    @Description("Skin of a player read from disk or the session server")
+    @Category({"Tabbed"})
+    private static class SkinFetchEvent extends Event implements SkinTiming {
+        @Label("Profile")
+        String profile;
+
+        @Label("Found")
+        boolean found;
+
+        @Override
+        public void end(String profile, boolean found) {
+            if (!shouldCommit())
+                return;
+            this.profile = profile;
+            this.found = found;
+            commit();
+        }
+    }
+}
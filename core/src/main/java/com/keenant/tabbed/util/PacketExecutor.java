@@ -0,0 +1,121 @@
+package com.keenant.tabbed.util;
+
+import org.bukkit.entity.Player;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs packet work off the main thread. Tasks for the same player run one at a time,
+ * in the order they were submitted, tasks for different players run in parallel.
+ */
+public class PacketExecutor {
+    private final ExecutorService executor;
+    private final Map<UUID,SerialExecutor> queues;
+
+    public PacketExecutor(int threads) {
+        final AtomicInteger count = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "Tabbed Packet Thread #" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.queues = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Queues a task for a player.
+     * @param player
+     * @param task
+     */
+    public void execute(Player player, Runnable task) {
+        this.queues.computeIfAbsent(player.getUniqueId(), new Function<UUID,SerialExecutor>() {
+            @Override
+            public SerialExecutor apply(UUID uuid) {
+                return new SerialExecutor(executor);
+            }
+        }).execute(task);
+    }
+
+    /**
+     * Forgets the queue of a player, tasks already queued still run.
+     * @param player
+     */
+    public void remove(Player player) {
+        this.queues.remove(player.getUniqueId());
+    }
+
+    /**
+     * Waits for the tasks already queued to run, then stops the threads. Whatever the caller
+     * does next happens after them, so sending on the caller's thread from then on keeps the
+     * order. No task may be queued from now on.
+     */
+    public void shutdown() {
+        for (SerialExecutor queue : this.queues.values())
+            queue.awaitIdle();
+        this.queues.clear();
+        this.executor.shutdown();
+    }
+
+    /**
+     * Runs tasks one after another on a backing executor.
+     */
+    private static class SerialExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private final Executor executor;
+        private Runnable active;
+
+        private SerialExecutor(Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public synchronized void execute(final Runnable task) {
+            this.tasks.add(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        task.run();
+                    } finally {
+                        scheduleNext();
+                    }
+                }
+            });
+            if (this.active == null)
+                scheduleNext();
+        }
+
+        private synchronized void scheduleNext() {
+            this.active = this.tasks.poll();
+            if (this.active != null)
+                this.executor.execute(this.active);
+            else
+                notifyAll();
+        }
+
+        private synchronized void awaitIdle() {
+            boolean interrupted = false;
+            while (this.active != null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+}
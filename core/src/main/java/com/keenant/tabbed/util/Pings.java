@@ -0,0 +1,146 @@
+package com.keenant.tabbed.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Samples player pings. How to read a ping is looked up once, and the ping of a player is
+ * read at most once per tick, no matter how many tab items show it. Ticks are counted by
+ * the flush task of Tabbed, see {@link #tick(Object)}.
+ *
+ * Should only be used from the main thread.
+ */
+public class Pings {
+    private static MethodHandle pingGetter;
+
+    private static final Map<UUID,Integer> slots = new HashMap<>();
+    private static final BitSet usedSlots = new BitSet();
+    private static int[] pings = new int[64];
+    private static long[] sampledTicks = new long[64];
+
+    private static long tick;
+    private static Object clock; // what counts the ticks, null until something does
+
+    /**
+     * Gets the ping of a player, sampled during this tick.
+     * @param player
+     * @return
+     */
+    public static int getPing(Player player) {
+        int slot = getSlot(player);
+        if (sampledTicks[slot] != tick) {
+            pings[slot] = samplePing(player);
+            sampledTicks[slot] = tick;
+        }
+        return pings[slot];
+    }
+
+    /**
+     * Starts a new tick, pings are read again from now on. Called once per server tick by the
+     * flush task of each Tabbed, only the first one to call it counts the ticks until it stops.
+     * @param clock What calls it.
+     */
+    public static void tick(Object clock) {
+        if (Pings.clock == null)
+            Pings.clock = clock;
+        if (Pings.clock == clock)
+            tick++;
+    }
+
+    /**
+     * Stops counting ticks with a clock, the next one to call {@link #tick(Object)} takes over.
+     * @param clock
+     */
+    public static void stopClock(Object clock) {
+        if (Pings.clock == clock)
+            Pings.clock = null;
+    }
+
+    /**
+     * Gets the number of bars the client shows for a ping.
+     * @param ping
+     * @return 1 to 5 bars, or 0 for a negative ping (shown as no connection).
+     */
+    public static int getBars(int ping) {
+        if (ping < 0)
+            return 0;
+        if (ping < 150)
+            return 5;
+        if (ping < 300)
+            return 4;
+        if (ping < 600)
+            return 3;
+        if (ping < 1000)
+            return 2;
+        return 1;
+    }
+
+    /**
+     * Forgets the sampled ping of a player, once they've quit.
+     * @param player
+     */
+    public static void forget(Player player) {
+        Integer slot = slots.remove(player.getUniqueId());
+        if (slot != null)
+            usedSlots.clear(slot);
+    }
+
+    private static int getSlot(Player player) {
+        Integer slot = slots.get(player.getUniqueId());
+        if (slot != null)
+            return slot;
+
+        int free = usedSlots.nextClearBit(0);
+        if (free >= pings.length) {
+            pings = Arrays.copyOf(pings, pings.length * 2);
+            sampledTicks = Arrays.copyOf(sampledTicks, sampledTicks.length * 2);
+        }
+        usedSlots.set(free);
+        sampledTicks[free] = Long.MIN_VALUE; // never sampled
+        slots.put(player.getUniqueId(), free);
+        return free;
+    }
+
+    private static int samplePing(Player player) {
+        if (pingGetter == null)
+            pingGetter = findPingGetter();
+        try {
+            return (int) pingGetter.invokeExact(player);
+        } catch (Throwable e) {
+            throw new RuntimeException("couldn't get player ping", e);
+        }
+    }
+
+    private static MethodHandle findPingGetter() {
+        // Player#getPing, on versions that have it
+        try {
+            return MethodHandles.publicLookup().findVirtual(Player.class, "getPing", MethodType.methodType(int.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // fall back to the ping field of the handle
+        }
+
+        try {
+            Class<?> craftPlayer = Class.forName(Bukkit.getServer().getClass().getPackage().getName() + ".entity.CraftPlayer");
+            Method getHandle = craftPlayer.getMethod("getHandle");
+            Field ping = getHandle.getReturnType().getDeclaredField("ping");
+            ping.setAccessible(true);
+
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = MethodHandles.filterReturnValue(lookup.unreflect(getHandle), lookup.unreflectGetter(ping));
+            return handle.asType(MethodType.methodType(int.class, Player.class));
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("couldn't find player ping", e);
+        }
+    }
+}
@@ -2,26 +2,77 @@ package com.keenant.tabbed.util;
 
 import com.comphenix.protocol.wrappers.WrappedSignedProperty;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.Getter;
 import lombok.ToString;
 
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents the skin/avatar of a tab item.
+ *
+ * Skins can be interned with {@link #intern()}, interned skins are shared and have an id,
+ * two of them are equal only if they are the same instance.
  */
-@ToString
+@ToString(exclude = "hash")
 public class Skin {
     @Getter private final WrappedSignedProperty property;
+    @Getter private final int id; // -1 if not interned
+    private final int hash;
     public static final String TEXTURE_KEY = "textures";
 
+    // interned skins are dropped once nothing else uses them
+    private static final Cache<Skin,Skin> INTERNED = CacheBuilder.newBuilder().weakValues().build();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
     public Skin(String value, String signature) {
         this(new WrappedSignedProperty(TEXTURE_KEY, value, signature));
     }
 
     public Skin(WrappedSignedProperty property) {
+        this(property, -1);
+    }
+
+    private Skin(WrappedSignedProperty property, int id) {
         Preconditions.checkArgument(property.getName().equals(TEXTURE_KEY));
         this.property = property;
+        this.id = id;
+        this.hash = Objects.hash(property.getValue(), property.getSignature());
+    }
+
+    /**
+     * @return True if this is the shared instance of the skin.
+     */
+    public boolean isInterned() {
+        return this.id >= 0;
+    }
+
+    /**
+     * Gets the shared instance of this skin, creating it if there is none.
+     * @return
+     */
+    public Skin intern() {
+        if (isInterned())
+            return this;
+
+        Skin interned = INTERNED.getIfPresent(this);
+        if (interned != null)
+            return interned;
+
+        try {
+            return INTERNED.get(this, new Callable<Skin>() {
+                @Override
+                public Skin call() {
+                    return new Skin(property, NEXT_ID.getAndIncrement());
+                }
+            });
+        } catch (ExecutionException e) {
+            throw new RuntimeException("couldn't intern skin", e);
+        }
     }
 
     @Override
@@ -30,10 +81,19 @@ public class Skin {
             return true;
         else if (object instanceof Skin) {
             Skin other = (Skin) object;
+            if (isInterned() && other.isInterned())
+                return false; // only one instance per skin
+            if (this.hash != other.hash)
+                return false;
             boolean sign = Objects.equals(this.property.getSignature(), other.getProperty().getSignature());
             boolean value = Objects.equals(this.property.getValue(), other.getProperty().getValue());
             return sign && value;
         }
         return false;
     }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
 }
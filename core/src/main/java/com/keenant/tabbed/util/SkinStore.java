@@ -0,0 +1,211 @@
+package com.keenant.tabbed.util;
+
+import com.google.common.base.Charsets;
+import com.keenant.tabbed.Tabbed;
+import lombok.Getter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Skins fetched from the session server, kept on disk so they survive restarts.
+ *
+ * The file is an append-only log, one line per skin: uuid, time fetched, texture value and
+ * signature, separated by tabs. The latest line of a uuid wins. It is read on first use,
+ * and rewritten without old lines by {@link #compact()} once it has grown enough.
+ *
+ * Skins are read from memory without locking, only writing to the file is synchronized.
+ */
+public class SkinStore {
+    private static final int MIN_COMPACT_LINES = 64;
+
+    @Getter private final File file;
+    @Getter private final long ttl;
+    private final Map<UUID,Record> records;
+    private volatile boolean loaded;
+    private int lines;
+    private Map<UUID,Record> compacting; // skins stored while compacting, null if not compacting
+
+    /**
+     * @param file
+     * @param ttl How long (in milliseconds) a skin is used before it is fetched again.
+     */
+    public SkinStore(File file, long ttl) {
+        this.file = file;
+        this.ttl = ttl;
+        this.records = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets a skin that hasn't expired.
+     * @param uuid
+     * @return The skin or null if there is none.
+     */
+    public Skin get(UUID uuid) {
+        load();
+        Record record = this.records.get(uuid);
+        if (record == null || isExpired(record, System.currentTimeMillis()))
+            return null;
+        return new Skin(record.value, record.signature).intern();
+    }
+
+    /**
+     * Stores a skin, fetched now.
+     * @param uuid
+     * @param skin
+     */
+    public synchronized void put(UUID uuid, Skin skin) {
+        load();
+        Record record = new Record(System.currentTimeMillis(), skin.getProperty().getValue(), skin.getProperty().getSignature());
+        this.records.put(uuid, record);
+
+        try (Writer writer = openWriter(this.file, true)) {
+            writeRecord(writer, uuid, record);
+            this.lines++;
+        } catch (IOException e) {
+            Tabbed.log(Level.WARNING, "Unable to write skin to " + this.file + ": " + e.getMessage());
+        }
+        if (this.compacting != null)
+            this.compacting.put(uuid, record);
+    }
+
+    /**
+     * @return True if the file holds a lot more lines than skins.
+     */
+    public synchronized boolean needsCompaction() {
+        return this.loaded && this.lines > MIN_COMPACT_LINES && this.lines > this.records.size() * 2;
+    }
+
+    /**
+     * Rewrites the file with only the latest skin of each uuid, dropping expired ones.
+     * It does file I/O, it shouldn't be called on the main thread. Skins can still be
+     * stored meanwhile, they are added to the new file before it replaces the old one.
+     */
+    public void compact() {
+        load();
+        Map<UUID,Record> records;
+        synchronized (this) {
+            if (this.compacting != null)
+                return;
+            this.compacting = new HashMap<>();
+            records = new HashMap<>(this.records);
+        }
+
+        long now = System.currentTimeMillis();
+        File temp = new File(this.file.getPath() + ".tmp");
+        int written = 0;
+        boolean complete = false;
+
+        try (Writer writer = openWriter(temp, false)) {
+            for (Entry<UUID,Record> entry : records.entrySet()) {
+                if (isExpired(entry.getValue(), now)) {
+                    this.records.remove(entry.getKey(), entry.getValue());
+                    continue;
+                }
+                writeRecord(writer, entry.getKey(), entry.getValue());
+                written++;
+            }
+            complete = true;
+        } catch (IOException e) {
+            Tabbed.log(Level.WARNING, "Unable to compact " + this.file + ": " + e.getMessage());
+        }
+
+        synchronized (this) {
+            Map<UUID,Record> stored = this.compacting;
+            this.compacting = null;
+            if (!complete) {
+                temp.delete();
+                return;
+            }
+
+            try {
+                try (Writer writer = openWriter(temp, true)) {
+                    for (Entry<UUID,Record> entry : stored.entrySet())
+                        writeRecord(writer, entry.getKey(), entry.getValue());
+                }
+                Files.move(temp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                this.lines = written + stored.size();
+            } catch (IOException e) {
+                temp.delete();
+                Tabbed.log(Level.WARNING, "Unable to replace " + this.file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private boolean isExpired(Record record, long now) {
+        return now - record.time >= this.ttl;
+    }
+
+    private void load() {
+        if (this.loaded)
+            return;
+        synchronized (this) {
+            if (this.loaded)
+                return;
+            if (this.file.exists())
+                read();
+            this.loaded = true;
+        }
+    }
+
+    private void read() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(this.file), Charsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                this.lines++;
+                String[] parts = line.split("\t", -1);
+                if (parts.length != 4)
+                    continue;
+                try {
+                    String signature = parts[3].isEmpty() ? null : parts[3];
+                    this.records.put(UUID.fromString(parts[0]), new Record(Long.parseLong(parts[1]), parts[2], signature));
+                } catch (IllegalArgumentException e) {
+                    Tabbed.log(Level.WARNING, "Skipping bad skin line in " + this.file);
+                }
+            }
+        } catch (IOException e) {
+            Tabbed.log(Level.WARNING, "Unable to read skins from " + this.file + ": " + e.getMessage());
+        }
+    }
+
+    private static Writer openWriter(File file, boolean append) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists())
+            parent.mkdirs();
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, append), Charsets.UTF_8));
+    }
+
+    private static void writeRecord(Writer writer, UUID uuid, Record record) throws IOException {
+        writer.write(uuid + "\t" + record.time + "\t" + record.value + "\t" + (record.signature == null ? "" : record.signature) + "\n");
+    }
+
+    /**
+     * A skin and when it was fetched.
+     */
+    private static class Record {
+        private final long time;
+        private final String value;
+        private final String signature;
+
+        private Record(long time, String value, String signature) {
+            this.time = time;
+            this.value = value;
+            this.signature = signature;
+        }
+    }
+}
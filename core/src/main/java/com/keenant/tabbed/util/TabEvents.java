@@ -0,0 +1,125 @@
+package com.keenant.tabbed.util;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Times the hot paths of Tabbed as Java Flight Recorder events, so a recording shows
+ * where tab list time goes. Usage:
+ * <pre>
+ * Timing timing = TabEvents.beginDiff();
+ * ...
+ * timing.end(player, slots, entries);
+ * </pre>
+ * When JFR isn't available, or an event isn't enabled in any recording, a shared
+ * no-op timing is returned and nothing is allocated or measured.
+ *
+ * The events themselves are in JfrTabEvents, which needs JDK 11 to build. It is loaded by
+ * name, so Tabbed still builds and runs on Java 8, without the events.
+ */
+public class TabEvents {
+    private static final Recorder recorder = loadRecorder();
+
+    static final Timing NOOP = new Timing() {
+        @Override
+        public void end(Player player, int slots, int entries) {
+        }
+    };
+
+    static final SkinTiming NOOP_SKIN = new SkinTiming() {
+        @Override
+        public void end(String profile, boolean found) {
+        }
+    };
+
+    /**
+     * Times the diff of the dirty slots of a tab list.
+     * @return
+     */
+    public static Timing beginDiff() {
+        return recorder != null ? recorder.beginDiff() : NOOP;
+    }
+
+    /**
+     * Times building the packets of an update.
+     * @return
+     */
+    public static Timing beginBuild() {
+        return recorder != null ? recorder.beginBuild() : NOOP;
+    }
+
+    /**
+     * Times sending the packets of an update to a player.
+     * @return
+     */
+    public static Timing beginSend() {
+        return recorder != null ? recorder.beginSend() : NOOP;
+    }
+
+    /**
+     * Times a poll of the player list names shown by default tab lists.
+     * @return
+     */
+    public static Timing beginPoll() {
+        return recorder != null ? recorder.beginPoll() : NOOP;
+    }
+
+    /**
+     * Times getting the skin of a player, from disk or the session server.
+     * @return
+     */
+    public static SkinTiming beginSkinFetch() {
+        return recorder != null ? recorder.beginSkinFetch() : NOOP_SKIN;
+    }
+
+    private static Recorder loadRecorder() {
+        try {
+            Recorder recorder = (Recorder) Class.forName(TabEvents.class.getPackage().getName() + ".JfrTabEvents").newInstance();
+            return recorder.isAvailable() ? recorder : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // built without the events, or jdk.jfr is missing from this runtime
+            return null;
+        }
+    }
+
+    /**
+     * Starts the timings of the events, see JfrTabEvents.
+     */
+    interface Recorder {
+        boolean isAvailable();
+
+        Timing beginDiff();
+
+        Timing beginBuild();
+
+        Timing beginSend();
+
+        Timing beginPoll();
+
+        SkinTiming beginSkinFetch();
+    }
+
+    /**
+     * A timed piece of work on tab list slots.
+     */
+    public interface Timing {
+        /**
+         * Ends the timing and records it.
+         * @param player The player it was done for, or null if it isn't for one player.
+         * @param slots The number of tab list slots handled.
+         * @param entries The number of player info entries involved.
+         */
+        void end(Player player, int slots, int entries);
+    }
+
+    /**
+     * A timed skin fetch.
+     */
+    public interface SkinTiming {
+        /**
+         * Ends the timing and records it.
+         * @param profile The uuid or name of the profile fetched.
+         * @param found False if the default skin is used instead.
+         */
+        void end(String profile, boolean found);
+    }
+}
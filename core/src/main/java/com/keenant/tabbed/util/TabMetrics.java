@@ -0,0 +1,292 @@
+package com.keenant.tabbed.util;
+
+import com.comphenix.protocol.wrappers.EnumWrappers.PlayerInfoAction;
+import lombok.Getter;
+import lombok.ToString;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Counts what Tabbed sends, in total, per player and per plugin owning the tab list.
+ *
+ * The counters only grow and are safe to update from any thread. To see a rate, take a
+ * {@link Snapshot} now and then and compare two of them, see {@link Snapshot#since(Snapshot)}.
+ * Sizes are estimated from the texts and skins sent, compression is not taken into account.
+ */
+public class TabMetrics {
+    private static final int PACKET_OVERHEAD = 5; // length, id, action and entry count
+    private static final int UUID_SIZE = 16;
+    private static final int TEXT_OVERHEAD = 12; // {"text":""}
+
+    private static final Counters total = new Counters();
+    private static final ConcurrentMap<String,Counters> plugins = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<UUID,Counters> players = new ConcurrentHashMap<>();
+    private static final LongAdder flushes = new LongAdder();
+    private static final LongAdder flushedTabLists = new LongAdder();
+
+    private static final Function<Object,Counters> NEW_COUNTERS = new Function<Object,Counters>() {
+        @Override
+        public Counters apply(Object key) {
+            return new Counters();
+        }
+    };
+
+    /**
+     * Counts a player info packet sent to a player.
+     * @param plugin The plugin owning the tab list, or null if unknown.
+     * @param player
+     * @param action
+     * @param entries The number of player info entries in the packet.
+     * @param bytes The estimated size of the entries, see {@link #getEntrySize(PlayerInfoAction, String, Skin)}.
+     */
+    public static void recordPlayerInfo(Plugin plugin, Player player, PlayerInfoAction action, int entries, long bytes) {
+        bytes += PACKET_OVERHEAD;
+        total.addPlayerInfo(action, entries, bytes);
+        getCounters(player).addPlayerInfo(action, entries, bytes);
+        if (plugin != null)
+            getCounters(plugin).addPlayerInfo(action, entries, bytes);
+    }
+
+    /**
+     * Counts a header and footer packet sent to a player.
+     * @param plugin The plugin owning the tab list, or null if unknown.
+     * @param player
+     * @param header
+     * @param footer
+     */
+    public static void recordHeaderFooter(Plugin plugin, Player player, String header, String footer) {
+        long bytes = PACKET_OVERHEAD + getTextSize(header) + getTextSize(footer);
+        total.addHeaderFooter(bytes);
+        getCounters(player).addHeaderFooter(bytes);
+        if (plugin != null)
+            getCounters(plugin).addHeaderFooter(bytes);
+    }
+
+    /**
+     * Counts a flush of the dirty tab lists.
+     * @param tabLists The number of tab lists flushed.
+     */
+    public static void recordFlush(int tabLists) {
+        flushes.increment();
+        flushedTabLists.add(tabLists);
+    }
+
+    /**
+     * Estimates the size of one player info entry.
+     * @param action
+     * @param text The text of the item.
+     * @param skin The skin of the item, or null.
+     * @return
+     */
+    public static int getEntrySize(PlayerInfoAction action, String text, Skin skin) {
+        switch (action) {
+            case ADD_PLAYER:
+                int size = UUID_SIZE + 17 + 1 + 1 + 2 + 1 + getTextSize(text); // name, properties, game mode, ping, display name
+                if (skin != null) {
+                    String signature = skin.getProperty().getSignature(); // null if unsigned
+                    size += 10 + skin.getProperty().getValue().length() + 1 + (signature == null ? 0 : 2 + signature.length());
+                }
+                return size;
+            case UPDATE_DISPLAY_NAME:
+                return UUID_SIZE + 1 + getTextSize(text);
+            case UPDATE_LATENCY:
+                return UUID_SIZE + 2;
+            default:
+                return UUID_SIZE;
+        }
+    }
+
+    private static int getTextSize(String text) {
+        return text == null ? TEXT_OVERHEAD : TEXT_OVERHEAD + text.length();
+    }
+
+    /**
+     * Stops counting for a player, their counts are left out of the next snapshots.
+     * @param player
+     */
+    public static void forget(Player player) {
+        players.remove(player.getUniqueId());
+    }
+
+    /**
+     * Copies the current counters.
+     * @return
+     */
+    public static Snapshot snapshot() {
+        Map<String,Counts> pluginCounts = new HashMap<>();
+        for (Entry<String,Counters> entry : plugins.entrySet())
+            pluginCounts.put(entry.getKey(), entry.getValue().getCounts());
+        Map<UUID,Counts> playerCounts = new HashMap<>();
+        for (Entry<UUID,Counters> entry : players.entrySet())
+            playerCounts.put(entry.getKey(), entry.getValue().getCounts());
+        return new Snapshot(System.currentTimeMillis(), total.getCounts(), pluginCounts, playerCounts, flushes.sum(), flushedTabLists.sum());
+    }
+
+    private static Counters getCounters(Player player) {
+        return players.computeIfAbsent(player.getUniqueId(), NEW_COUNTERS);
+    }
+
+    private static Counters getCounters(Plugin plugin) {
+        return plugins.computeIfAbsent(plugin.getName(), NEW_COUNTERS);
+    }
+
+    private static class Counters {
+        private final LongAdder[] packets = newAdders(PlayerInfoAction.values().length);
+        private final LongAdder[] entries = newAdders(PlayerInfoAction.values().length);
+        private final LongAdder headerFooters = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        private void addPlayerInfo(PlayerInfoAction action, int entries, long bytes) {
+            this.packets[action.ordinal()].increment();
+            this.entries[action.ordinal()].add(entries);
+            this.bytes.add(bytes);
+        }
+
+        private void addHeaderFooter(long bytes) {
+            this.headerFooters.increment();
+            this.bytes.add(bytes);
+        }
+
+        private Counts getCounts() {
+            return new Counts(sum(this.packets), sum(this.entries), this.headerFooters.sum(), this.bytes.sum());
+        }
+
+        private static LongAdder[] newAdders(int length) {
+            LongAdder[] adders = new LongAdder[length];
+            for (int i = 0; i < length; i++)
+                adders[i] = new LongAdder();
+            return adders;
+        }
+
+        private static long[] sum(LongAdder[] adders) {
+            long[] sums = new long[adders.length];
+            for (int i = 0; i < adders.length; i++)
+                sums[i] = adders[i].sum();
+            return sums;
+        }
+    }
+
+    /**
+     * What was sent to a player, for a plugin or in total.
+     */
+    @ToString
+    public static class Counts {
+        private static final Counts ZERO = new Counts(new long[PlayerInfoAction.values().length], new long[PlayerInfoAction.values().length], 0, 0);
+
+        private final long[] packets;
+        private final long[] entries;
+        @Getter private final long headerFooterPackets;
+        @Getter private final long bytes;
+
+        private Counts(long[] packets, long[] entries, long headerFooterPackets, long bytes) {
+            this.packets = packets;
+            this.entries = entries;
+            this.headerFooterPackets = headerFooterPackets;
+            this.bytes = bytes;
+        }
+
+        /**
+         * Gets the number of player info packets of an action.
+         * @param action
+         * @return
+         */
+        public long getPackets(PlayerInfoAction action) {
+            return this.packets[action.ordinal()];
+        }
+
+        /**
+         * Gets the number of player info entries of an action.
+         * @param action
+         * @return
+         */
+        public long getEntries(PlayerInfoAction action) {
+            return this.entries[action.ordinal()];
+        }
+
+        /**
+         * @return The number of packets of any kind.
+         */
+        public long getPackets() {
+            long count = this.headerFooterPackets;
+            for (long packets : this.packets)
+                count += packets;
+            return count;
+        }
+
+        /**
+         * Gets the counts minus older counts.
+         * @param older
+         * @return
+         */
+        public Counts since(Counts older) {
+            long[] packets = new long[this.packets.length];
+            long[] entries = new long[this.entries.length];
+            for (int i = 0; i < packets.length; i++) {
+                packets[i] = this.packets[i] - older.packets[i];
+                entries[i] = this.entries[i] - older.entries[i];
+            }
+            return new Counts(packets, entries, this.headerFooterPackets - older.headerFooterPackets, this.bytes - older.bytes);
+        }
+    }
+
+    /**
+     * The counters at some point in time.
+     */
+    @ToString
+    public static class Snapshot {
+        @Getter private final long time;
+        @Getter private final Counts total;
+        @Getter private final Map<String,Counts> plugins;
+        @Getter private final Map<UUID,Counts> players;
+        @Getter private final long flushes;
+        @Getter private final long flushedTabLists;
+
+        private Snapshot(long time, Counts total, Map<String,Counts> plugins, Map<UUID,Counts> players, long flushes, long flushedTabLists) {
+            this.time = time;
+            this.total = total;
+            this.plugins = Collections.unmodifiableMap(plugins);
+            this.players = Collections.unmodifiableMap(players);
+            this.flushes = flushes;
+            this.flushedTabLists = flushedTabLists;
+        }
+
+        /**
+         * @return The average number of tab lists sent per flush.
+         */
+        public double getTabListsPerFlush() {
+            return this.flushes == 0 ? 0 : (double) this.flushedTabLists / this.flushes;
+        }
+
+        /**
+         * Gets what was counted since an older snapshot. Plugins and players not in the
+         * older snapshot are counted from zero, players forgotten since are left out.
+         * @param older
+         * @return
+         */
+        public Snapshot since(Snapshot older) {
+            Map<String,Counts> plugins = new HashMap<>();
+            for (Entry<String,Counts> entry : this.plugins.entrySet())
+                plugins.put(entry.getKey(), entry.getValue().since(getOrZero(older.plugins, entry.getKey())));
+            Map<UUID,Counts> players = new HashMap<>();
+            for (Entry<UUID,Counts> entry : this.players.entrySet())
+                players.put(entry.getKey(), entry.getValue().since(getOrZero(older.players, entry.getKey())));
+            return new Snapshot(this.time, this.total.since(older.total), plugins, players,
+                    this.flushes - older.flushes, this.flushedTabLists - older.flushedTabLists);
+        }
+
+        private static <K> Counts getOrZero(Map<K,Counts> counts, K key) {
+            Counts result = counts.get(key);
+            return result == null ? Counts.ZERO : result;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.keenant.tabbed.util;
+
+import org.bukkit.entity.Player;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PacketExecutorTest {
+    @Test(timeout = 10000)
+    public void shutdownRunsQueuedTasks() throws InterruptedException {
+        PacketExecutor executor = new PacketExecutor(2);
+        Player first = Players.newPlayer(UUID.randomUUID(), "first");
+        Player second = Players.newPlayer(UUID.randomUUID(), "second");
+        final List<String> sent = Collections.synchronizedList(new ArrayList<String>());
+        final CountDownLatch started = new CountDownLatch(2);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        // the first task of each player blocks, so the others are still queued on shutdown
+        for (final Player player : Arrays.asList(first, second)) {
+            executor.execute(player, new Runnable() {
+                @Override
+                public void run() {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    sent.add(player.getName() + " 0");
+                }
+            });
+            for (int i = 1; i < 5; i++)
+                executor.execute(player, add(sent, player.getName() + " " + i));
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                release.countDown();
+            }
+        }).start();
+        executor.shutdown();
+        // sent on this thread, as Tabbed does once async sending is off
+        sent.add("sync");
+
+        assertEquals(11, sent.size());
+        assertEquals("sync", sent.get(10));
+        for (Player player : Arrays.asList(first, second)) {
+            List<String> expected = new ArrayList<>();
+            List<String> actual = new ArrayList<>();
+            for (int i = 0; i < 5; i++)
+                expected.add(player.getName() + " " + i);
+            for (String task : sent) {
+                if (task.startsWith(player.getName()))
+                    actual.add(task);
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void shutdownWithoutTasks() {
+        new PacketExecutor(1).shutdown();
+    }
+
+    private static Runnable add(final List<String> sent, final String task) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                sent.add(task);
+            }
+        };
+    }
+}
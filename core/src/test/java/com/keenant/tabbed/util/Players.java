@@ -0,0 +1,35 @@
+package com.keenant.tabbed.util;
+
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+/**
+ * Players without a server, only their uuid and name are known.
+ */
+class Players {
+    static Player newPlayer(final UUID uuid, final String name) {
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[] {Player.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                switch (method.getName()) {
+                    case "getUniqueId":
+                        return uuid;
+                    case "getName":
+                        return name;
+                    case "hashCode":
+                        return uuid.hashCode();
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return name;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        });
+    }
+}
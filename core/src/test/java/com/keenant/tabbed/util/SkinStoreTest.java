@@ -0,0 +1,100 @@
+package com.keenant.tabbed.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class SkinStoreTest {
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void reload() throws IOException {
+        File file = new File(this.folder.newFolder("skins"), "skins.log");
+        UUID signed = UUID.randomUUID();
+        UUID unsigned = UUID.randomUUID();
+
+        SkinStore store = new SkinStore(file, HOUR);
+        store.put(signed, new Skin("old", "old signature"));
+        store.put(unsigned, new Skin("unsigned", null));
+        store.put(signed, new Skin("new", "new signature"));
+
+        // the latest line of a uuid wins
+        SkinStore reloaded = new SkinStore(file, HOUR);
+        assertSkin("new", "new signature", reloaded.get(signed));
+        assertSkin("unsigned", null, reloaded.get(unsigned));
+        assertNull(reloaded.get(UUID.randomUUID()));
+    }
+
+    @Test
+    public void expiry() throws IOException, InterruptedException {
+        File file = new File(this.folder.newFolder("skins"), "skins.log");
+        UUID uuid = UUID.randomUUID();
+
+        SkinStore store = new SkinStore(file, 50);
+        store.put(uuid, new Skin("value", "signature"));
+        assertNotNull(store.get(uuid));
+
+        Thread.sleep(100);
+        assertNull(store.get(uuid));
+        assertNotNull(new SkinStore(file, HOUR).get(uuid));
+
+        // compacting drops it from the file as well
+        store.compact();
+        assertNull(new SkinStore(file, HOUR).get(uuid));
+        assertFalse(new File(file.getPath() + ".tmp").exists());
+    }
+
+    @Test(timeout = 30000)
+    public void putWhileCompacting() throws IOException, InterruptedException {
+        File file = new File(this.folder.newFolder("skins"), "skins.log");
+        final SkinStore store = new SkinStore(file, HOUR);
+        // enough skins that compacting spends most of its time writing, when puts can come in
+        for (int i = 0; i < 5000; i++)
+            store.put(UUID.randomUUID(), new Skin("before " + i, "signature"));
+
+        // puts until the compaction is done, the file must hold them all without compacting again
+        final AtomicBoolean compacted = new AtomicBoolean();
+        final List<UUID> stored = new ArrayList<>();
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; !compacted.get(); i++) {
+                    UUID uuid = UUID.randomUUID();
+                    store.put(uuid, new Skin("during " + i, "signature"));
+                    stored.add(uuid);
+                }
+            }
+        });
+        writer.start();
+        store.compact();
+        compacted.set(true);
+        writer.join();
+
+        SkinStore reloaded = new SkinStore(file, HOUR);
+        for (int i = 0; i < stored.size(); i++)
+            assertSkin("during " + i, "signature", reloaded.get(stored.get(i)));
+        assertFalse(new File(file.getPath() + ".tmp").exists());
+    }
+
+    private static void assertSkin(String value, String signature, Skin skin) {
+        assertNotNull(skin);
+        assertEquals(value, skin.getProperty().getValue());
+        assertEquals(signature, skin.getProperty().getSignature());
+    }
+}
@@ -0,0 +1,41 @@
+package com.keenant.tabbed.util;
+
+import com.comphenix.protocol.wrappers.EnumWrappers.PlayerInfoAction;
+import com.keenant.tabbed.util.TabMetrics.Counts;
+import org.bukkit.entity.Player;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TabMetricsTest {
+    @Test
+    public void unsignedSkinEntrySize() {
+        Skin signed = new Skin("value", "signature");
+        Skin unsigned = new Skin("value", null);
+
+        int signedSize = TabMetrics.getEntrySize(PlayerInfoAction.ADD_PLAYER, "text", signed);
+        int unsignedSize = TabMetrics.getEntrySize(PlayerInfoAction.ADD_PLAYER, "text", unsigned);
+        int skinlessSize = TabMetrics.getEntrySize(PlayerInfoAction.ADD_PLAYER, "text", null);
+
+        assertEquals(signedSize - 2 - "signature".length(), unsignedSize);
+        assertTrue(unsignedSize > skinlessSize);
+    }
+
+    @Test
+    public void recordUnsignedSkin() {
+        Player player = Players.newPlayer(UUID.randomUUID(), "unsigned");
+        long bytes = TabMetrics.getEntrySize(PlayerInfoAction.ADD_PLAYER, "text", new Skin("value", null));
+
+        Counts before = TabMetrics.snapshot().getTotal();
+        TabMetrics.recordPlayerInfo(null, player, PlayerInfoAction.ADD_PLAYER, 1, bytes);
+        Counts recorded = TabMetrics.snapshot().getTotal().since(before);
+
+        assertEquals(1, recorded.getPackets(PlayerInfoAction.ADD_PLAYER));
+        assertEquals(1, recorded.getEntries(PlayerInfoAction.ADD_PLAYER));
+        assertTrue(recorded.getBytes() > bytes);
+        TabMetrics.forget(player);
+    }
+}
@@ -0,0 +1,49 @@
+package com.keenant.tabbed;
+
+import com.keenant.tabbed.util.TabMetrics;
+import com.keenant.tabbed.util.TabMetrics.Snapshot;
+
+/**
+ * Keeps one {@link TabMetrics} snapshot per run, to tell what was sent over the last runs.
+ * Meant to run once a second, it is safe to run off the main thread.
+ */
+public class MetricsWindow implements Runnable {
+  private final Snapshot[] snapshots;
+  private int next;
+  private int size;
+
+  /**
+   * @param length The number of runs the window spans.
+   */
+  public MetricsWindow(int length) {
+    this.snapshots = new Snapshot[length];
+  }
+
+  @Override
+  public synchronized void run() {
+    this.snapshots[this.next] = TabMetrics.snapshot();
+    this.next = (this.next + 1) % this.snapshots.length;
+    this.size = Math.min(this.size + 1, this.snapshots.length);
+  }
+
+  /**
+   * Gets what was counted since the oldest snapshot kept, up to now.
+   * @return
+   */
+  public synchronized Snapshot getWindow() {
+    Snapshot now = TabMetrics.snapshot();
+    if (this.size == 0)
+      return now;
+    Snapshot oldest = this.snapshots[this.size < this.snapshots.length ? 0 : this.next];
+    return now.since(oldest);
+  }
+
+  /**
+   * @return The time (in ms) of the oldest snapshot kept, or -1 if there is none.
+   */
+  public synchronized long getStart() {
+    if (this.size == 0)
+      return -1;
+    return this.snapshots[this.size < this.snapshots.length ? 0 : this.next].getTime();
+  }
+}
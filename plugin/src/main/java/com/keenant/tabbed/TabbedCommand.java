@@ -0,0 +1,92 @@
+package com.keenant.tabbed;
+
+import com.comphenix.protocol.wrappers.EnumWrappers.PlayerInfoAction;
+import com.keenant.tabbed.util.TabMetrics.Counts;
+import com.keenant.tabbed.util.TabMetrics.Snapshot;
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+
+/**
+ * The /tabbed command, /tabbed stats shows what was sent over the window.
+ */
+public class TabbedCommand implements CommandExecutor {
+  private static final int TOP = 5;
+
+  private final Plugin plugin;
+  private final MetricsWindow window;
+
+  public TabbedCommand(Plugin plugin, MetricsWindow window) {
+    this.plugin = plugin;
+    this.window = window;
+  }
+
+  @Override
+  public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+    if (args.length != 1 || !args[0].equalsIgnoreCase("stats"))
+      return false;
+
+    long start = this.window.getStart();
+    Snapshot stats = this.window.getWindow();
+    double seconds = start < 0 ? 0 : Math.max(1, stats.getTime() - start) / 1000.0;
+    Counts total = stats.getTotal();
+
+    sender.sendMessage(ChatColor.GOLD + "Tabbed, last " + Math.round(seconds) + "s:");
+    sender.sendMessage(ChatColor.YELLOW + "Packets: " + ChatColor.WHITE + total.getPackets()
+        + " (" + format(seconds == 0 ? 0 : total.getPackets() / seconds) + "/s), ~"
+        + format(total.getBytes() / 1024.0) + " KiB");
+    for (PlayerInfoAction action : PlayerInfoAction.values()) {
+      if (total.getPackets(action) > 0)
+        sender.sendMessage(ChatColor.YELLOW + "  " + action.name().toLowerCase() + ": " + ChatColor.WHITE
+            + total.getPackets(action) + " packets, " + total.getEntries(action) + " entries");
+    }
+    sender.sendMessage(ChatColor.YELLOW + "  header/footer: " + ChatColor.WHITE + total.getHeaderFooterPackets() + " packets");
+    sender.sendMessage(ChatColor.YELLOW + "Tab lists per flush: " + ChatColor.WHITE + format(stats.getTabListsPerFlush())
+        + " (" + stats.getFlushes() + " flushes)");
+
+    sender.sendMessage(ChatColor.YELLOW + "Top plugins:");
+    for (Entry<String,Counts> entry : getTop(stats.getPlugins()))
+      sender.sendMessage(describe(entry.getKey(), entry.getValue()));
+
+    sender.sendMessage(ChatColor.YELLOW + "Top players:");
+    for (Entry<UUID,Counts> entry : getTop(stats.getPlayers())) {
+      Player player = this.plugin.getServer().getPlayer(entry.getKey());
+      sender.sendMessage(describe(player == null ? entry.getKey().toString() : player.getName(), entry.getValue()));
+    }
+    return true;
+  }
+
+  private static String describe(String name, Counts counts) {
+    return ChatColor.WHITE + "  " + name + ": " + counts.getPackets() + " packets, ~" + format(counts.getBytes() / 1024.0) + " KiB";
+  }
+
+  private static String format(double value) {
+    return String.format("%.1f", value);
+  }
+
+  private static <K> List<Entry<K,Counts>> getTop(Map<K,Counts> counts) {
+    List<Entry<K,Counts>> entries = new ArrayList<>();
+    for (Entry<K,Counts> entry : counts.entrySet()) {
+      if (entry.getValue().getPackets() > 0)
+        entries.add(entry);
+    }
+    Collections.sort(entries, new Comparator<Entry<K,Counts>>() {
+      @Override
+      public int compare(Entry<K,Counts> a, Entry<K,Counts> b) {
+        return Long.compare(b.getValue().getPackets(), a.getValue().getPackets());
+      }
+    });
+    return entries.subList(0, Math.min(TOP, entries.size()));
+  }
+}
@@ -1,16 +1,35 @@
 package com.keenant.tabbed;
 
+import com.keenant.tabbed.util.SkinStore;
+import com.keenant.tabbed.util.Skins;
 import org.bukkit.ChatColor;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
 public class TabbedPlugin extends JavaPlugin {
+  private static final int METRICS_WINDOW = 60; // seconds
+
   @Override
   public void onLoad() {
     getServer().getConsoleSender().sendMessage(ChatColor.GREEN + "Tabbed library is ready to be used...");
   }
 
+  @Override
+  public void onEnable() {
+    // fetched skins survive restarts, they are read when first needed
+    Skins.setStore(new SkinStore(new File(getDataFolder(), "skins.log"), TimeUnit.DAYS.toMillis(1)));
+
+    // one snapshot a second, /tabbed stats compares now with a minute ago
+    MetricsWindow window = new MetricsWindow(METRICS_WINDOW);
+    getServer().getScheduler().runTaskTimerAsynchronously(this, window, 0, 20);
+    getCommand("tabbed").setExecutor(new TabbedCommand(this, window));
+  }
+
   @Override
   public void onDisable() {
+    Skins.setStore(null);
     getServer().getConsoleSender().sendMessage(ChatColor.GREEN + "Tabbed library is disabled...");
   }
 }